@@ -0,0 +1,19 @@
+package io.github.jonloucks.contracts.api;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A Promisor that creates its deliverable in the background.
+ * {@link #demand()} waits for the deliverable, {@link #demandAsync()} does not.
+ * @param <T> The type of the deliverable
+ * @see Promisors#createAsyncPromisor(Promisor)
+ * @see Contracts#claimAsync(Contract)
+ */
+public interface AsyncPromisor<T> extends Promisor<T> {
+    
+    /**
+     * Return the deliverable promised for a Contract without waiting for it to be created
+     * @return completes with the deliverable, or exceptionally if creation failed
+     */
+    CompletionStage<T> demandAsync();
+}
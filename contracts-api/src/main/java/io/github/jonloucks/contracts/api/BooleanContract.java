@@ -0,0 +1,51 @@
+package io.github.jonloucks.contracts.api;
+
+import java.util.function.Consumer;
+
+import static io.github.jonloucks.contracts.api.Checks.builderConsumerCheck;
+
+/**
+ * A Contract for a boolean deliverable, for example a feature toggle.
+ * Claimed with {@link Contracts#claimBoolean(BooleanContract)} without boxing when bound to a {@link BooleanPromisor}.
+ * @see Contracts#bindBoolean(BooleanContract, BooleanPromisor)
+ */
+public final class BooleanContract {
+    
+    /**
+     * Create a boolean contract with a given name
+     *
+     * @param name the name for the contract, null is not allowed
+     * @return the new BooleanContract
+     */
+    public static BooleanContract create(String name) {
+        return create(b -> b.name(name));
+    }
+    
+    /**
+     * Create a boolean contract from a builder callback
+     *
+     * @param builderConsumer the builder callback
+     * @return the new BooleanContract
+     */
+    public static BooleanContract create(Consumer<Contract.Config.Builder<Boolean>> builderConsumer) {
+        return new BooleanContract(Contract.create(Boolean.class, builderConsumerCheck(builderConsumer)));
+    }
+    
+    /**
+     * @return the boxed Contract, used for binding and claiming like any other Contract
+     */
+    public Contract<Boolean> getContract() {
+        return contract;
+    }
+    
+    @Override
+    public String toString() {
+        return contract.toString();
+    }
+    
+    private BooleanContract(Contract<Boolean> contract) {
+        this.contract = contract;
+    }
+    
+    private final Contract<Boolean> contract;
+}
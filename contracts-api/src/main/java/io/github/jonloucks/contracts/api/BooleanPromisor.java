@@ -0,0 +1,24 @@
+package io.github.jonloucks.contracts.api;
+
+/**
+ * A Promisor for a boolean deliverable, {@link #demandBoolean()} never boxes.
+ * @see Contracts#claimBoolean(BooleanContract)
+ */
+@FunctionalInterface
+public interface BooleanPromisor extends Promisor<Boolean> {
+    
+    /**
+     * Return the deliverable promised for a Contract
+     * @return the current deliverable
+     */
+    boolean demandBoolean();
+    
+    /**
+     * The boxed deliverable, for claims through the Contract
+     * @return the current deliverable
+     */
+    @Override
+    default Boolean demand() {
+        return demandBoolean();
+    }
+}
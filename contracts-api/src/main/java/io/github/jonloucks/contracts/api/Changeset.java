@@ -0,0 +1,131 @@
+package io.github.jonloucks.contracts.api;
+
+import java.util.*;
+
+import static io.github.jonloucks.contracts.api.BindStrategy.IF_ALLOWED;
+import static io.github.jonloucks.contracts.api.Checks.*;
+
+/**
+ * A set of bindings to be applied to a Contracts as a single change.
+ * <p>
+ * Note: A Changeset is not thread safe, it is intended to be built by one thread and then applied.
+ * </p>
+ * <pre class="code">
+ *     <code class="java">
+ *  final AutoClose closeBindings = contracts.apply(Changeset.create()
+ *      .bind(FIRST, firstPromisor)
+ *      .bind(SECOND, secondPromisor, BindStrategy.IF_NOT_BOUND));
+ * </code></pre>
+ * @see Contracts#apply(Changeset)
+ */
+public final class Changeset {
+    
+    /**
+     * Create an empty Changeset
+     *
+     * @return the new Changeset
+     */
+    public static Changeset create() {
+        return new Changeset();
+    }
+    
+    /**
+     * Add a binding to this Changeset
+     *
+     * @param contract the contract to bind the Promisor
+     * @param promisor the Promisor for the given contract
+     * @param bindStrategy the binding strategy
+     * @param <T>      The type of the value returned by the promisor
+     * @return this Changeset
+     * @throws ContractException when the contract is already in this Changeset
+     * @throws IllegalArgumentException when an argument is null
+     */
+    public <T> Changeset bind(Contract<T> contract, Promisor<T> promisor, BindStrategy bindStrategy) {
+        final Contract<T> validContract = contractCheck(contract);
+        final Promisor<T> validPromisor = promisorCheck(promisor);
+        final BindStrategy validBindStrategy = nullCheck(bindStrategy, "Bind strategy must be present.");
+        
+        if (!contracts.add(validContract)) {
+            throw new ContractException("Contract " + validContract + " is already in the changeset.");
+        }
+        bindings.add(new Binding<>(validContract, validPromisor, validBindStrategy));
+        return this;
+    }
+    
+    /**
+     * Add a binding to this Changeset
+     *
+     * @param contract the contract to bind the Promisor
+     * @param promisor the Promisor for the given contract
+     * @param <T>      The type of the value returned by the promisor
+     * @return this Changeset
+     * @throws ContractException when the contract is already in this Changeset
+     * @throws IllegalArgumentException when an argument is null
+     */
+    public <T> Changeset bind(Contract<T> contract, Promisor<T> promisor) {
+        return bind(contract, promisor, IF_ALLOWED);
+    }
+    
+    /**
+     * @return the bindings in the order they were added
+     */
+    public List<Binding<?>> getBindings() {
+        return Collections.unmodifiableList(bindings);
+    }
+    
+    /**
+     * A single binding of a Changeset
+     *
+     * @param <T> The type of the value returned by the promisor
+     */
+    public static final class Binding<T> {
+        
+        /**
+         * @return the contract to bind the Promisor
+         */
+        public Contract<T> getContract() {
+            return contract;
+        }
+        
+        /**
+         * @return the Promisor for the contract
+         */
+        public Promisor<T> getPromisor() {
+            return promisor;
+        }
+        
+        /**
+         * @return the binding strategy
+         */
+        public BindStrategy getBindStrategy() {
+            return bindStrategy;
+        }
+        
+        /**
+         * Bind this binding on its own
+         *
+         * @param contracts the Contracts to bind to
+         * @return Use to release (unbind) this contract
+         * @see Contracts#bind(Contract, Promisor, BindStrategy)
+         */
+        public AutoClose bindTo(Contracts contracts) {
+            return contractsCheck(contracts).bind(contract, promisor, bindStrategy);
+        }
+        
+        private Binding(Contract<T> contract, Promisor<T> promisor, BindStrategy bindStrategy) {
+            this.contract = contract;
+            this.promisor = promisor;
+            this.bindStrategy = bindStrategy;
+        }
+        
+        private final Contract<T> contract;
+        private final Promisor<T> promisor;
+        private final BindStrategy bindStrategy;
+    }
+    
+    private Changeset() {
+    }
+    
+    private final List<Binding<?>> bindings = new ArrayList<>();
+    private final Set<Contract<?>> contracts = new HashSet<>();
+}
@@ -0,0 +1,24 @@
+package io.github.jonloucks.contracts.api;
+
+/**
+ * A reusable claim of a single Contract.
+ * <p>
+ * The handle resolves the binding once and keeps it until that Contract is bound, rebound or unbound.
+ * Intended to be created once and kept, for example in a static final field.
+ * </p>
+ * @param <T> The type of deliverable
+ * @see Contracts#handle(Contract)
+ */
+@FunctionalInterface
+public interface ClaimHandle<T> {
+    
+    /**
+     * Claim the deliverable from the bound contract.
+     *
+     * @return the value returned by the bound Promisor. A Promisor can return null
+     * @throws ContractException if Promisor binding does not exist for the contract
+     * @throws SecurityException if permission is denied
+     * @see Contracts#claim(Contract)
+     */
+    T get();
+}
@@ -125,6 +125,26 @@ public final class Contract<T> {
         return config.isReplaceable();
     }
     
+    /**
+     * When true, {@link #cast(Object)} only checks the type and returns the same instance.
+     * Implementations may then skip the cast for an instance that has already been checked.
+     *
+     * @return true if the cast is only a type check
+     */
+    public boolean isTypeCheckOnly() {
+        return typeCheckOnly;
+    }
+    
+    /**
+     * The unique id of this contract, assigned in order of creation.
+     * Note: Implementations may use it as a dense index, it is always positive
+     *
+     * @return the contract id
+     */
+    public int getId() {
+        return id;
+    }
+    
     @Override
     public String toString() {
         return "Contract[id=" + id + ", name=" + getName() + ", type=" + getTypeName() + "]";
@@ -179,6 +199,17 @@ public final class Contract<T> {
             return false;
         }
         
+        /**
+         * When true, {@link #cast(Object)} only checks the type and returns the same instance.
+         * Implementations may then skip the cast for an instance that has already been checked.
+         * The default is false, a custom cast is called for every claim
+         *
+         * @return true if the cast is only a type check
+         */
+        default boolean isTypeCheckOnly() {
+            return false;
+        }
+        
         /**
          * Partial builder to streamline custom contracts
          * @param <T> The Contract deliverable type
@@ -211,9 +242,11 @@ public final class Contract<T> {
     
     private final int id = ID_GENERATOR.getAndIncrement();
     private final Config<T> config;
+    private final boolean typeCheckOnly;
     
     private Contract(Config<T> config) {
         this.config = configCheck(config);
+        this.typeCheckOnly = config.isTypeCheckOnly();
         nameCheck(config.name());
         nullCheck(config.typeName(), "Config type must be present.");
     }
@@ -43,6 +43,11 @@ final class ContractBuilderImpl<T> implements Contract.Config.Builder<T> {
         return type.cast(instance);
     }
     
+    @Override
+    public boolean isTypeCheckOnly() {
+        return true;
+    }
+    
     ContractBuilderImpl(Class<T> type) {
         this.type = type;
         this.name = this.typeName = type.getTypeName();
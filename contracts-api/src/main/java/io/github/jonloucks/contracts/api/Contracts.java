@@ -1,9 +1,16 @@
 package io.github.jonloucks.contracts.api;
 
-import java.util.Collections;
-import java.util.List;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import static io.github.jonloucks.contracts.api.BindStrategy.IF_ALLOWED;
+import static io.github.jonloucks.contracts.api.Checks.contractCheck;
+import static io.github.jonloucks.contracts.api.Checks.nullCheck;
 
 /**
  * The actual implementation used for Contracts itself.
@@ -25,6 +32,199 @@ public interface Contracts extends AutoOpen {
      */
     <T> T claim(Contract<T> contract);
     
+    /**
+     * Claim the deliverables from many bound contracts.
+     * An implementation may resolve all the contracts against the same bindings,
+     * so a concurrent bind or unbind is seen by all of them or none.
+     *
+     * @param contracts the contracts to claim
+     * @return the deliverables, in the same order as the contracts
+     * @throws ContractException if Promisor binding does not exist for a contract
+     * @throws SecurityException if permission is denied
+     * @throws IllegalArgumentException may throw when an argument is null
+     */
+    default Object[] claimAll(Contract<?>... contracts) {
+        final Contract<?>[] validContracts = nullCheck(contracts, "Contracts must be present.");
+        final Object[] deliverables = new Object[validContracts.length];
+        
+        for (int i = 0; i < validContracts.length; i++) {
+            deliverables[i] = claim(validContracts[i]);
+        }
+        return deliverables;
+    }
+    
+    /**
+     * Claim the deliverable from a bound contract without waiting for it to be created.
+     * The deliverable of an {@link AsyncPromisor} is created in the background,
+     * any other Promisor is demanded by the calling thread.
+     *
+     * @param contract the contract to claim
+     * @param <T>      type of value returned
+     * @return completes with the deliverable, or exceptionally with the reason the claim failed.
+     *         For example a ContractException if Promisor binding does not exist for the contract
+     * @throws IllegalArgumentException may throw when an argument is null
+     */
+    default <T> CompletionStage<T> claimAsync(Contract<T> contract) {
+        final Contract<T> validContract = contractCheck(contract);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        
+        try {
+            future.complete(claim(validContract));
+        } catch (RuntimeException thrown) {
+            future.completeExceptionally(thrown);
+        }
+        return future;
+    }
+    
+    /**
+     * Claim the int deliverable from a bound contract.
+     * An implementation does not box when the contract is bound to a {@link IntPromisor}.
+     *
+     * @param contract the contract to claim
+     * @return the value returned by the bound Promisor
+     * @throws ContractException if Promisor binding does not exist for the contract or the Promisor returned null
+     * @throws SecurityException if permission is denied
+     * @throws IllegalArgumentException may throw when an argument is null
+     */
+    default int claimInt(IntContract contract) {
+        final Contract<Integer> validContract = contractCheck(nullCheck(contract, "Contract must be present.").getContract());
+        final Integer deliverable = claim(validContract);
+        
+        if (null == deliverable) {
+            throw new ContractException("Contract " + validContract + " delivered null.");
+        }
+        return deliverable;
+    }
+    
+    /**
+     * Claim the long deliverable, see {@link #claimInt(IntContract)}
+     *
+     * @param contract the contract to claim
+     * @return the value returned by the bound Promisor
+     */
+    default long claimLong(LongContract contract) {
+        final Contract<Long> validContract = contractCheck(nullCheck(contract, "Contract must be present.").getContract());
+        final Long deliverable = claim(validContract);
+        
+        if (null == deliverable) {
+            throw new ContractException("Contract " + validContract + " delivered null.");
+        }
+        return deliverable;
+    }
+    
+    /**
+     * Claim the double deliverable, see {@link #claimInt(IntContract)}
+     *
+     * @param contract the contract to claim
+     * @return the value returned by the bound Promisor
+     */
+    default double claimDouble(DoubleContract contract) {
+        final Contract<Double> validContract = contractCheck(nullCheck(contract, "Contract must be present.").getContract());
+        final Double deliverable = claim(validContract);
+        
+        if (null == deliverable) {
+            throw new ContractException("Contract " + validContract + " delivered null.");
+        }
+        return deliverable;
+    }
+    
+    /**
+     * Claim the boolean deliverable, see {@link #claimInt(IntContract)}
+     *
+     * @param contract the contract to claim
+     * @return the value returned by the bound Promisor
+     */
+    default boolean claimBoolean(BooleanContract contract) {
+        final Contract<Boolean> validContract = contractCheck(nullCheck(contract, "Contract must be present.").getContract());
+        final Boolean deliverable = claim(validContract);
+        
+        if (null == deliverable) {
+            throw new ContractException("Contract " + validContract + " delivered null.");
+        }
+        return deliverable;
+    }
+    
+    /**
+     * Claim the deliverable from a contract if it is bound.
+     * Unlike {@link #claim(Contract)}, a contract that is not bound does not throw.
+     *
+     * @param contract the contract to claim
+     * @param <T>      type of value returned
+     * @return the deliverable, empty if the contract is not bound or the Promisor returned null
+     * @throws SecurityException if permission is denied
+     * @throws IllegalArgumentException may throw when an argument is null
+     */
+    default <T> Optional<T> tryClaim(Contract<T> contract) {
+        final Contract<T> validContract = contractCheck(contract);
+        
+        if (isBound(validContract)) {
+            return Optional.ofNullable(claim(validContract));
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Claim the deliverable from a contract if it is bound, otherwise return the fallback.
+     * Unlike {@link #claim(Contract)}, a contract that is not bound does not throw.
+     *
+     * @param contract the contract to claim
+     * @param fallback the value returned when the contract is not bound, null is allowed
+     * @param <T>      type of value returned
+     * @return the value returned by the bound Promisor or the fallback if not bound. A Promisor can return null
+     * @throws SecurityException if permission is denied
+     * @throws IllegalArgumentException may throw when an argument is null
+     */
+    default <T> T claimOrElse(Contract<T> contract, T fallback) {
+        final Contract<T> validContract = contractCheck(contract);
+        
+        if (isBound(validContract)) {
+            return claim(validContract);
+        }
+        return fallback;
+    }
+    
+    /**
+     * Create a reusable handle to claim the deliverable of a contract.
+     * A handle skips the per claim validation and lookup until that contract is bound, rebound or unbound.
+     * Rebinding a replaceable contract is honoured by the very next claim.
+     *
+     * @param contract the contract to claim
+     * @param <T>      type of value returned
+     * @return the new handle
+     * @throws IllegalArgumentException may throw when an argument is null
+     */
+    default <T> ClaimHandle<T> handle(Contract<T> contract) {
+        final Contract<T> validContract = contractCheck(contract);
+        
+        return () -> claim(validContract);
+    }
+    
+    /**
+     * Opt-in for contracts bound once and effectively never changed.
+     * Returns a MethodHandle of type {@code ()Object} that claims the deliverable of the contract.
+     * Kept in a static final field, the JIT may inline the deliverable as a constant.
+     * <p>
+     * Note: The implementation may demand the deliverable once per binding and return it
+     * until the binding is changed. Only use it when the Promisor always delivers the same value.
+     * Note: Invoke with {@code (Type) handle.invoke()} or {@code (Type) (Object) handle.invokeExact()}
+     * </p>
+     *
+     * @param contract the contract to claim
+     * @param <T>      type of value returned
+     * @return the new MethodHandle
+     * @throws IllegalArgumentException may throw when an argument is null
+     */
+    default <T> MethodHandle constantHandle(Contract<T> contract) {
+        final ClaimHandle<T> claimHandle = handle(contract);
+        try {
+            return MethodHandles.publicLookup()
+                .findVirtual(ClaimHandle.class, "get", MethodType.methodType(Object.class))
+                .bindTo(claimHandle);
+        } catch (ReflectiveOperationException thrown) {
+            throw new ContractException("Unable to create the constant handle.", thrown);
+        }
+    }
+    
     /**
      * Checks if the contract is bound to a Promisor
      *
@@ -64,6 +264,139 @@ public interface Contracts extends AutoOpen {
      */
     <T> AutoClose bind(Contract<T> contract, Promisor<T> promisor, BindStrategy bindStrategy);
     
+    /**
+     * Establish a binding between an int Contract and an IntPromisor
+     *
+     * @param contract the contract to bind the Promisor
+     * @param promisor the Promisor for the given contract
+     * @return Use to release (unbind) this contract
+     * @throws ContractException when contract is already bound and can't be replaced
+     * @throws SecurityException when permission to bind is denied
+     * @throws IllegalArgumentException may throw when an argument is null
+     */
+    default AutoClose bindInt(IntContract contract, IntPromisor promisor) {
+        return bind(nullCheck(contract, "Contract must be present.").getContract(), promisor);
+    }
+    
+    /**
+     * Bind a long Promisor, see {@link #bindInt(IntContract, IntPromisor)}
+     *
+     * @param contract the contract to bind the Promisor
+     * @param promisor the Promisor for the given contract
+     * @return Use to release (unbind) this contract
+     */
+    default AutoClose bindLong(LongContract contract, LongPromisor promisor) {
+        return bind(nullCheck(contract, "Contract must be present.").getContract(), promisor);
+    }
+    
+    /**
+     * Bind a double Promisor, see {@link #bindInt(IntContract, IntPromisor)}
+     *
+     * @param contract the contract to bind the Promisor
+     * @param promisor the Promisor for the given contract
+     * @return Use to release (unbind) this contract
+     */
+    default AutoClose bindDouble(DoubleContract contract, DoublePromisor promisor) {
+        return bind(nullCheck(contract, "Contract must be present.").getContract(), promisor);
+    }
+    
+    /**
+     * Bind a boolean Promisor, see {@link #bindInt(IntContract, IntPromisor)}
+     *
+     * @param contract the contract to bind the Promisor
+     * @param promisor the Promisor for the given contract
+     * @return Use to release (unbind) this contract
+     */
+    default AutoClose bindBoolean(BooleanContract contract, BooleanPromisor promisor) {
+        return bind(nullCheck(contract, "Contract must be present.").getContract(), promisor);
+    }
+    
+    /**
+     * Apply all the bindings of a Changeset as a single change.
+     * All binding strategies are checked before anything is bound.
+     * An implementation may publish all the bindings in one atomic step, so a claim never sees part of the Changeset.
+     *
+     * @param changeset the bindings to apply
+     * @return Use to release (unbind) every contract bound by the Changeset
+     * @throws ContractException when a contract is already bound, can't be replaced or not accepting bindings
+     * @throws SecurityException when permission to bind is denied
+     * @throws IllegalArgumentException may throw when an argument is null
+     */
+    default AutoClose apply(Changeset changeset) {
+        final Changeset validChangeset = nullCheck(changeset, "Changeset must be present.");
+        final Deque<AutoClose> closeBindings = new ArrayDeque<>();
+        final AutoClose closeAll = () -> {
+            while (!closeBindings.isEmpty()) {
+                closeBindings.pop().close();
+            }
+        };
+        try {
+            for (Changeset.Binding<?> binding : validChangeset.getBindings()) {
+                closeBindings.push(binding.bindTo(this));
+            }
+        } catch (RuntimeException | Error thrown) {
+            closeAll.close();
+            throw thrown;
+        }
+        return closeAll;
+    }
+    
+    /**
+     * The dependencies observed between contracts bound to this Contracts.
+     * A dependency is recorded when a Promisor claims a contract while creating its deliverable.
+     *
+     * @return a snapshot of the dependency graph
+     */
+    default DependencyGraph getDependencyGraph() {
+        return DependencyGraph.create(Collections.emptyMap(), Collections.emptyMap());
+    }
+    
+    /**
+     * Open a child scope of this Contracts.
+     * Contracts bound to the scope are only visible through the scope,
+     * any contract not bound to the scope is claimed from this Contracts.
+     * A scope has no shutdown hook, closing the scope releases all of its bindings.
+     *
+     * @return the open scope, the caller is responsible for closing it
+     * @throws ContractException when the scope could not be created
+     */
+    default Scope openScope() {
+        final Contracts parent = this;
+        final Contracts scope = GlobalContracts.createContracts(new Config() {
+            @Override
+            public List<Contracts> getPartners() {
+                return Collections.singletonList(parent);
+            }
+            
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        return Scope.create(scope, scope.open());
+    }
+    
+    /**
+     * A child of a Contracts, opened by {@link #openScope()}
+     * Closing the scope releases all of its bindings, the parent is not changed.
+     */
+    interface Scope extends Contracts, AutoClose {
+        
+        /**
+         * Create a Scope delegating to an open Contracts, for implementations of {@link #openScope()}
+         *
+         * @param contracts      the open Contracts holding the scope bindings
+         * @param closeContracts closes the Contracts when the scope is closed
+         * @return the new Scope
+         * @throws IllegalArgumentException when an argument is null
+         */
+        static Scope create(Contracts contracts, AutoClose closeContracts) {
+            return new ScopeImpl(
+                nullCheck(contracts, "Contracts must be present."),
+                nullCheck(closeContracts, "Close must be present."));
+        }
+    }
+    
     /**
      * The Contracts configuration
      */
@@ -83,6 +416,46 @@ public interface Contracts extends AutoOpen {
             return true;
         }
         
+        /**
+         * @return the time allowed for closing every Contracts at shutdown, used when useShutdownHooks is true.
+         * The shutdown hook is shared, it allows the longest of the timeouts of the Contracts it closes.
+         */
+        default Duration shutdownTimeout() {
+            return Duration.ofSeconds(10);
+        }
+        
+        /**
+         * @return the number of Contracts closed at the same time at shutdown, used when useShutdownHooks is true.
+         * The shutdown hook is shared, it uses the largest parallelism of the Contracts it closes.
+         */
+        default int shutdownParallelism() {
+            return Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        }
+        
+        /**
+         * @return the number of bindings closed at the same time when the Contracts is closed.
+         * When 1, the bindings are closed one at a time, the last bound is the first closed.
+         * Otherwise, a binding is closed after every binding that claimed it while creating its deliverable,
+         * and bindings that are independent are closed in parallel.
+         */
+        default int closeParallelism() {
+            return 1;
+        }
+        
+        /**
+         * @return the time allowed for all bindings to be closed, used when closeParallelism is more than 1
+         */
+        default Duration closeTimeout() {
+            return Duration.ofSeconds(30);
+        }
+        
+        /**
+         * @return the time allowed for a single binding to be closed, used when closeParallelism is more than 1
+         */
+        default Duration bindingCloseTimeout() {
+            return Duration.ofSeconds(10);
+        }
+        
         /**
          * @return if true, reflection might be used to locate the ContractsFactory
          */
@@ -0,0 +1,221 @@
+package io.github.jonloucks.contracts.api;
+
+import java.time.Duration;
+import java.util.*;
+
+import static io.github.jonloucks.contracts.api.Checks.contractCheck;
+import static io.github.jonloucks.contracts.api.Checks.nullCheck;
+
+/**
+ * An immutable snapshot of the dependencies between contracts.
+ * A contract depends on another when its Promisor claimed the other while creating its deliverable.
+ * <p>
+ * Note: Dependencies are observed, a contract only has dependencies after its deliverable was created.
+ * </p>
+ * @see Contracts#getDependencyGraph()
+ */
+public final class DependencyGraph {
+    
+    /**
+     * Create a DependencyGraph
+     *
+     * @param dependencies  the contracts claimed by each contract, every key is in the graph even if empty
+     * @param creationTimes the time each contract took to create its deliverable, not counting its dependencies
+     * @return the new DependencyGraph
+     * @throws IllegalArgumentException when an argument is null
+     */
+    public static DependencyGraph create(Map<Contract<?>, ? extends Collection<Contract<?>>> dependencies,
+                                         Map<Contract<?>, Duration> creationTimes) {
+        return new DependencyGraph(
+            nullCheck(dependencies, "Dependencies must be present."),
+            nullCheck(creationTimes, "Creation times must be present."));
+    }
+    
+    /**
+     * @return every contract in the graph, ordered by contract id
+     */
+    public Set<Contract<?>> getContracts() {
+        return Collections.unmodifiableSet(dependencies.keySet());
+    }
+    
+    /**
+     * @param contract the contract
+     * @return the contracts claimed by the contract while creating its deliverable
+     * @throws IllegalArgumentException when contract is null
+     */
+    public Set<Contract<?>> getDependencies(Contract<?> contract) {
+        return unmodifiable(dependencies.get(contractCheck(contract)));
+    }
+    
+    /**
+     * @param contract the contract
+     * @return the contracts that claimed the contract while creating their deliverable
+     * @throws IllegalArgumentException when contract is null
+     */
+    public Set<Contract<?>> getDependents(Contract<?> contract) {
+        return unmodifiable(dependents.get(contractCheck(contract)));
+    }
+    
+    /**
+     * @param contract the contract
+     * @return the time taken to create the deliverable, not counting its dependencies. Empty if unknown
+     * @throws IllegalArgumentException when contract is null
+     */
+    public Optional<Duration> getCreationTime(Contract<?> contract) {
+        return Optional.ofNullable(creationTimes.get(contractCheck(contract)));
+    }
+    
+    /**
+     * The chain of dependencies with the largest total creation time.
+     * The first contract depends on the second and so on, the last has no dependencies.
+     * Contracts on this path are the ones delaying startup the most.
+     *
+     * @return the critical path, empty if the graph is empty
+     */
+    public List<Contract<?>> getCriticalPath() {
+        final Map<Contract<?>, Long> pathNanos = new HashMap<>();
+        final Map<Contract<?>, Contract<?>> next = new HashMap<>();
+        Contract<?> start = null;
+        for (Contract<?> contract : dependencies.keySet()) {
+            final long nanos = measurePath(contract, pathNanos, next, new HashSet<>());
+            if (null == start || nanos > pathNanos.get(start)) {
+                start = contract;
+            }
+        }
+        final List<Contract<?>> path = new ArrayList<>();
+        for (Contract<?> contract = start; null != contract && !path.contains(contract); contract = next.get(contract)) {
+            path.add(contract);
+        }
+        return Collections.unmodifiableList(path);
+    }
+    
+    /**
+     * @return the graph in the Graphviz DOT language, an edge points from a contract to its dependency
+     */
+    public String toDot() {
+        final StringBuilder builder = new StringBuilder("digraph contracts {\n");
+        for (Contract<?> contract : dependencies.keySet()) {
+            builder.append("    c").append(contract.getId())
+                .append(" [label=").append(quote(contract.getName()));
+            getCreationTime(contract).ifPresent(time ->
+                builder.append(", tooltip=").append(quote(time.toString())));
+            builder.append("];\n");
+        }
+        dependencies.forEach((contract, claimed) -> {
+            for (Contract<?> dependency : claimed) {
+                builder.append("    c").append(contract.getId())
+                    .append(" -> c").append(dependency.getId()).append(";\n");
+            }
+        });
+        return builder.append("}\n").toString();
+    }
+    
+    /**
+     * @return the graph as JSON, each contract with its id, name, type, creation time and dependency ids
+     */
+    public String toJson() {
+        final StringJoiner contracts = new StringJoiner(",", "{\"contracts\":[", "]}");
+        for (Contract<?> contract : dependencies.keySet()) {
+            final StringJoiner ids = new StringJoiner(",", "[", "]");
+            dependencies.get(contract).forEach(dependency -> ids.add(Integer.toString(dependency.getId())));
+            final Duration creationTime = creationTimes.get(contract);
+            contracts.add("{\"id\":" + contract.getId()
+                + ",\"name\":" + quote(contract.getName())
+                + ",\"type\":" + quote(contract.getTypeName())
+                + ",\"creationNanos\":" + (null == creationTime ? "null" : Long.toString(creationTime.toNanos()))
+                + ",\"dependencies\":" + ids
+                + "}");
+        }
+        return contracts.toString();
+    }
+    
+    @Override
+    public String toString() {
+        return "DependencyGraph[contracts=" + dependencies.size() + "]";
+    }
+    
+    private DependencyGraph(Map<Contract<?>, ? extends Collection<Contract<?>>> dependencies,
+                            Map<Contract<?>, Duration> creationTimes) {
+        dependencies.forEach((contract, claimed) -> {
+            final Set<Contract<?>> validClaimed = newContractSet();
+            for (Contract<?> dependency : nullCheck(claimed, "Dependencies must be present.")) {
+                validClaimed.add(contractCheck(dependency));
+                this.dependencies.computeIfAbsent(dependency, key -> newContractSet());
+                this.dependents.computeIfAbsent(dependency, key -> newContractSet()).add(contract);
+            }
+            this.dependencies.computeIfAbsent(contractCheck(contract), key -> newContractSet()).addAll(validClaimed);
+        });
+        creationTimes.forEach((contract, time) -> {
+            if (this.dependencies.containsKey(contractCheck(contract))) {
+                this.creationTimes.put(contract, nullCheck(time, "Creation time must be present."));
+            }
+        });
+    }
+    
+    private long measurePath(Contract<?> contract, Map<Contract<?>, Long> pathNanos,
+                             Map<Contract<?>, Contract<?>> next, Set<Contract<?>> visiting) {
+        final Long known = pathNanos.get(contract);
+        if (null != known) {
+            return known;
+        }
+        if (!visiting.add(contract)) {
+            // contracts depending on each other, the cycle is not followed again
+            return 0;
+        }
+        long longestNanos = 0;
+        for (Contract<?> dependency : dependencies.get(contract)) {
+            final long nanos = measurePath(dependency, pathNanos, next, visiting);
+            if (null == next.get(contract) || nanos > longestNanos) {
+                longestNanos = nanos;
+                next.put(contract, dependency);
+            }
+        }
+        visiting.remove(contract);
+        final Duration creationTime = creationTimes.get(contract);
+        final long totalNanos = longestNanos + (null == creationTime ? 0 : creationTime.toNanos());
+        pathNanos.put(contract, totalNanos);
+        return totalNanos;
+    }
+    
+    private static Set<Contract<?>> newContractSet() {
+        return new TreeSet<>(Comparator.comparingInt(Contract::getId));
+    }
+    
+    private static Set<Contract<?>> unmodifiable(Set<Contract<?>> contracts) {
+        return null == contracts ? Collections.emptySet() : Collections.unmodifiableSet(contracts);
+    }
+    
+    private static String quote(String text) {
+        final StringBuilder builder = new StringBuilder("\"");
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+    
+    private final Map<Contract<?>, Set<Contract<?>>> dependencies = new TreeMap<>(Comparator.comparingInt(Contract::getId));
+    private final Map<Contract<?>, Set<Contract<?>>> dependents = new HashMap<>();
+    private final Map<Contract<?>, Duration> creationTimes = new HashMap<>();
+}
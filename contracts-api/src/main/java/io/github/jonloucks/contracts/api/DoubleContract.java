@@ -0,0 +1,51 @@
+package io.github.jonloucks.contracts.api;
+
+import java.util.function.Consumer;
+
+import static io.github.jonloucks.contracts.api.Checks.builderConsumerCheck;
+
+/**
+ * A Contract for a double deliverable, for example a sampling rate.
+ * Claimed with {@link Contracts#claimDouble(DoubleContract)} without boxing when bound to a {@link DoublePromisor}.
+ * @see Contracts#bindDouble(DoubleContract, DoublePromisor)
+ */
+public final class DoubleContract {
+    
+    /**
+     * Create a double contract with a given name
+     *
+     * @param name the name for the contract, null is not allowed
+     * @return the new DoubleContract
+     */
+    public static DoubleContract create(String name) {
+        return create(b -> b.name(name));
+    }
+    
+    /**
+     * Create a double contract from a builder callback
+     *
+     * @param builderConsumer the builder callback
+     * @return the new DoubleContract
+     */
+    public static DoubleContract create(Consumer<Contract.Config.Builder<Double>> builderConsumer) {
+        return new DoubleContract(Contract.create(Double.class, builderConsumerCheck(builderConsumer)));
+    }
+    
+    /**
+     * @return the boxed Contract, used for binding and claiming like any other Contract
+     */
+    public Contract<Double> getContract() {
+        return contract;
+    }
+    
+    @Override
+    public String toString() {
+        return contract.toString();
+    }
+    
+    private DoubleContract(Contract<Double> contract) {
+        this.contract = contract;
+    }
+    
+    private final Contract<Double> contract;
+}
@@ -0,0 +1,24 @@
+package io.github.jonloucks.contracts.api;
+
+/**
+ * A Promisor for a double deliverable, {@link #demandDouble()} never boxes.
+ * @see Contracts#claimDouble(DoubleContract)
+ */
+@FunctionalInterface
+public interface DoublePromisor extends Promisor<Double> {
+    
+    /**
+     * Return the deliverable promised for a Contract
+     * @return the current deliverable
+     */
+    double demandDouble();
+    
+    /**
+     * The boxed deliverable, for claims through the Contract
+     * @return the current deliverable
+     */
+    @Override
+    default Double demand() {
+        return demandDouble();
+    }
+}
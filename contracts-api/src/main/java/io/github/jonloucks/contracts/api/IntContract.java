@@ -0,0 +1,51 @@
+package io.github.jonloucks.contracts.api;
+
+import java.util.function.Consumer;
+
+import static io.github.jonloucks.contracts.api.Checks.builderConsumerCheck;
+
+/**
+ * A Contract for an int deliverable, for example a limit or timeout in milliseconds.
+ * Claimed with {@link Contracts#claimInt(IntContract)} without boxing when bound to a {@link IntPromisor}.
+ * @see Contracts#bindInt(IntContract, IntPromisor)
+ */
+public final class IntContract {
+    
+    /**
+     * Create an int contract with a given name
+     *
+     * @param name the name for the contract, null is not allowed
+     * @return the new IntContract
+     */
+    public static IntContract create(String name) {
+        return create(b -> b.name(name));
+    }
+    
+    /**
+     * Create an int contract from a builder callback
+     *
+     * @param builderConsumer the builder callback
+     * @return the new IntContract
+     */
+    public static IntContract create(Consumer<Contract.Config.Builder<Integer>> builderConsumer) {
+        return new IntContract(Contract.create(Integer.class, builderConsumerCheck(builderConsumer)));
+    }
+    
+    /**
+     * @return the boxed Contract, used for binding and claiming like any other Contract
+     */
+    public Contract<Integer> getContract() {
+        return contract;
+    }
+    
+    @Override
+    public String toString() {
+        return contract.toString();
+    }
+    
+    private IntContract(Contract<Integer> contract) {
+        this.contract = contract;
+    }
+    
+    private final Contract<Integer> contract;
+}
@@ -0,0 +1,24 @@
+package io.github.jonloucks.contracts.api;
+
+/**
+ * A Promisor for an int deliverable, {@link #demandInt()} never boxes.
+ * @see Contracts#claimInt(IntContract)
+ */
+@FunctionalInterface
+public interface IntPromisor extends Promisor<Integer> {
+    
+    /**
+     * Return the deliverable promised for a Contract
+     * @return the current deliverable
+     */
+    int demandInt();
+    
+    /**
+     * The boxed deliverable, for claims through the Contract
+     * @return the current deliverable
+     */
+    @Override
+    default Integer demand() {
+        return demandInt();
+    }
+}
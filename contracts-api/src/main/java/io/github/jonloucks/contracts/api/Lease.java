@@ -0,0 +1,16 @@
+package io.github.jonloucks.contracts.api;
+
+/**
+ * Exclusive use of a pooled deliverable until the lease is closed.
+ * Closing the lease returns the deliverable to its pool, closing it more than once does nothing.
+ * @param <T> The type of the leased deliverable
+ * @see Promisors#createPoolPromisor(Promisor, int)
+ */
+public interface Lease<T> extends AutoClose {
+    
+    /**
+     * @return the leased deliverable
+     * @throws IllegalStateException when the lease is closed
+     */
+    T get();
+}
@@ -0,0 +1,51 @@
+package io.github.jonloucks.contracts.api;
+
+import java.util.function.Consumer;
+
+import static io.github.jonloucks.contracts.api.Checks.builderConsumerCheck;
+
+/**
+ * A Contract for a long deliverable, for example a size in bytes.
+ * Claimed with {@link Contracts#claimLong(LongContract)} without boxing when bound to a {@link LongPromisor}.
+ * @see Contracts#bindLong(LongContract, LongPromisor)
+ */
+public final class LongContract {
+    
+    /**
+     * Create a long contract with a given name
+     *
+     * @param name the name for the contract, null is not allowed
+     * @return the new LongContract
+     */
+    public static LongContract create(String name) {
+        return create(b -> b.name(name));
+    }
+    
+    /**
+     * Create a long contract from a builder callback
+     *
+     * @param builderConsumer the builder callback
+     * @return the new LongContract
+     */
+    public static LongContract create(Consumer<Contract.Config.Builder<Long>> builderConsumer) {
+        return new LongContract(Contract.create(Long.class, builderConsumerCheck(builderConsumer)));
+    }
+    
+    /**
+     * @return the boxed Contract, used for binding and claiming like any other Contract
+     */
+    public Contract<Long> getContract() {
+        return contract;
+    }
+    
+    @Override
+    public String toString() {
+        return contract.toString();
+    }
+    
+    private LongContract(Contract<Long> contract) {
+        this.contract = contract;
+    }
+    
+    private final Contract<Long> contract;
+}
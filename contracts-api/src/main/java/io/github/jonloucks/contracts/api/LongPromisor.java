@@ -0,0 +1,24 @@
+package io.github.jonloucks.contracts.api;
+
+/**
+ * A Promisor for a long deliverable, {@link #demandLong()} never boxes.
+ * @see Contracts#claimLong(LongContract)
+ */
+@FunctionalInterface
+public interface LongPromisor extends Promisor<Long> {
+    
+    /**
+     * Return the deliverable promised for a Contract
+     * @return the current deliverable
+     */
+    long demandLong();
+    
+    /**
+     * The boxed deliverable, for claims through the Contract
+     * @return the current deliverable
+     */
+    @Override
+    default Long demand() {
+        return demandLong();
+    }
+}
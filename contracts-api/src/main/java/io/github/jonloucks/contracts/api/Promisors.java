@@ -1,5 +1,8 @@
 package io.github.jonloucks.contracts.api;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
@@ -21,6 +24,47 @@ public interface Promisors {
      */
     <T> Promisor<T> createValuePromisor(T deliverable);
     
+    /**
+     * Creates an IntPromisor that returns the given value, claimed without boxing.
+     *
+     * @param deliverable the value to deliver
+     * @return The new Promisor
+     * @see Contracts#bindInt(IntContract, IntPromisor)
+     */
+    default IntPromisor createIntValuePromisor(int deliverable) {
+        return () -> deliverable;
+    }
+    
+    /**
+     * Creates a LongPromisor that returns the given value, claimed without boxing.
+     *
+     * @param deliverable the value to deliver
+     * @return The new Promisor
+     */
+    default LongPromisor createLongValuePromisor(long deliverable) {
+        return () -> deliverable;
+    }
+    
+    /**
+     * Creates a DoublePromisor that returns the given value, claimed without boxing.
+     *
+     * @param deliverable the value to deliver
+     * @return The new Promisor
+     */
+    default DoublePromisor createDoubleValuePromisor(double deliverable) {
+        return () -> deliverable;
+    }
+    
+    /**
+     * Creates a BooleanPromisor that returns the given value, claimed without boxing.
+     *
+     * @param deliverable the value to deliver
+     * @return The new Promisor
+     */
+    default BooleanPromisor createBooleanValuePromisor(boolean deliverable) {
+        return () -> deliverable;
+    }
+    
     /**
      * Creates a Promisor that only calls the source Promisor once and then always
      * returns that value.
@@ -42,6 +86,149 @@ public interface Promisors {
      */
     <T> Promisor<T> createLifeCyclePromisor(Promisor<T> promisor);
     
+    /**
+     * Reference counted, created in the background on the first demand.
+     * Claiming threads do not wait for each other, only for the deliverable.
+     * A failed creation is tried again by the next demand.
+     * Note: increment and decrementUsage are relayed to the source promisor.
+     *
+     * @param promisor the source promisor
+     * @return the new Promisor
+     * @param <T> the type of deliverable
+     * @see Contracts#claimAsync(Contract)
+     */
+    default <T> AsyncPromisor<T> createAsyncPromisor(Promisor<T> promisor) {
+        return createAsyncPromisor(promisor, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Reference counted, created in the background on the first demand.
+     * Claiming threads do not wait for each other, only for the deliverable.
+     * A failed creation is tried again by the next demand.
+     * Note: increment and decrementUsage are relayed to the source promisor.
+     *
+     * @param promisor the source promisor
+     * @param executor runs the creation of the deliverable
+     * @return the new Promisor
+     * @param <T> the type of deliverable
+     * @throws ContractException when async promisors are not supported by the implementation
+     * @see Contracts#claimAsync(Contract)
+     */
+    default <T> AsyncPromisor<T> createAsyncPromisor(Promisor<T> promisor, Executor executor) {
+        throw new ContractException("Async promisors are not supported.");
+    }
+    
+    /**
+     * Reference counted pool of deliverables that are not thread safe, for example parsers or message digests.
+     * Each demand leases a free deliverable, creating one when none is free.
+     * Closing the lease returns the deliverable for reuse, at most capacity free deliverables are kept.
+     * A deliverable that is not kept, and every kept deliverable when usage drops to zero, is closed
+     * with opt-in 'open' and 'close' invoked on deliverable.
+     * Note: increment and decrementUsage are relayed to the source promisor.
+     * Note: the number of leased deliverables is not limited, a demand never waits.
+     * Use {@link #createPoolPromisor(Promisor, int, int)} to limit the deliverables in existence.
+     *
+     * @param promisor the source promisor, demanded once for each deliverable in the pool
+     * @param capacity the most free deliverables kept for reuse
+     * @return the new Promisor
+     * @param <T> the type of deliverable
+     * @throws ContractException when pool promisors are not supported by the implementation
+     */
+    default <T> Promisor<Lease<T>> createPoolPromisor(Promisor<T> promisor, int capacity) {
+        throw new ContractException("Pool promisors are not supported.");
+    }
+    
+    /**
+     * Reference counted pool of at most maximum deliverables, for example connections or large buffers.
+     * Same as {@link #createPoolPromisor(Promisor, int)}, except a demand while maximum deliverables are leased
+     * waits until a lease is closed. A thread holding maximum leases must not demand another.
+     *
+     * @param promisor the source promisor, demanded once for each deliverable in the pool
+     * @param capacity the most free deliverables kept for reuse
+     * @param maximum  the most deliverables in existence, at least the capacity
+     * @return the new Promisor
+     * @param <T> the type of deliverable
+     * @throws ContractException when pool promisors are not supported by the implementation
+     */
+    default <T> Promisor<Lease<T>> createPoolPromisor(Promisor<T> promisor, int capacity, int maximum) {
+        throw new ContractException("Pool promisors are not supported.");
+    }
+    
+    /**
+     * Reference counted, each thread lazily gets its own deliverable. For example a reusable StringBuilder or formatter.
+     * A thread demanding its deliverable again does not lock or allocate.
+     * When usage drops to zero, or a thread is garbage collected, the deliverables are closed
+     * with opt-in 'open' and 'close' invoked on deliverable.
+     * Note: increment and decrementUsage are relayed to the source promisor.
+     * Note: Virtual threads would each create a deliverable, use {@link #createPoolPromisor(Promisor, int)} instead.
+     *
+     * @param promisor the source promisor, demanded once for each thread
+     * @return the new Promisor
+     * @param <T> the type of deliverable
+     * @throws ContractException when thread local promisors are not supported by the implementation
+     */
+    default <T> Promisor<T> createThreadLocalPromisor(Promisor<T> promisor) {
+        throw new ContractException("Thread local promisors are not supported.");
+    }
+    
+    /**
+     * Caches the deliverable for a time to live and refreshes it in the background before it expires.
+     * Only the first demand waits for a deliverable, later demands are served from the cache.
+     * If a refresh fails, the stale deliverable is served until a later refresh succeeds.
+     * Only one refresh runs at a time.
+     * Note: increment and decrementUsage are relayed to the source promisor.
+     *
+     * @param promisor   the source promisor, demanded again for each refresh
+     * @param timeToLive how long a deliverable is served before it is expected to be refreshed
+     * @return the new Promisor
+     * @param <T> the type of deliverable
+     */
+    default <T> Promisor<T> createRefreshPromisor(Promisor<T> promisor, Duration timeToLive) {
+        return createRefreshPromisor(promisor, timeToLive, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Caches the deliverable for a time to live and refreshes it in the background before it expires.
+     * Only the first demand waits for a deliverable, later demands are served from the cache.
+     * If a refresh fails, the stale deliverable is served until a later refresh succeeds.
+     * Only one refresh runs at a time.
+     * Note: increment and decrementUsage are relayed to the source promisor.
+     *
+     * @param promisor   the source promisor, demanded again for each refresh
+     * @param timeToLive how long a deliverable is served before it is expected to be refreshed
+     * @param executor   runs the refreshes
+     * @return the new Promisor
+     * @param <T> the type of deliverable
+     * @throws ContractException when refresh promisors are not supported by the implementation
+     */
+    default <T> Promisor<T> createRefreshPromisor(Promisor<T> promisor, Duration timeToLive, Executor executor) {
+        throw new ContractException("Refresh promisors are not supported.");
+    }
+    
+    /**
+     * Reference counted, lazy loaded, for large deliverables that can be created again. For example a lookup table.
+     * The deliverable is held softly, the garbage collector may reclaim it when memory is low
+     * and the next demand creates it again.
+     * Opt-in 'open' and 'close' are invoked on deliverable, 'close' runs when usage drops to zero or after the
+     * deliverable is reclaimed.
+     * <p>
+     * <b>Important:</b> the AutoClose returned by 'open' must not refer to the deliverable, for example
+     * {@code return this::close} or a lambda using the deliverable's fields. It is kept strongly until it has run,
+     * a deliverable it refers to is never reclaimed and is only closed when usage drops to zero.
+     * Returning the deliverable itself fails the demand with an IllegalStateException, other references
+     * can not be detected.
+     * </p>
+     * Note: increment and decrementUsage are relayed to the source promisor.
+     * Note: by default a life cycle promisor is created, the deliverable is never reclaimed.
+     *
+     * @param promisor the source promisor
+     * @return the new Promisor
+     * @param <T> the type of deliverable
+     */
+    default <T> Promisor<T> createSoftPromisor(Promisor<T> promisor) {
+        return createLifeCyclePromisor(promisor);
+    }
+    
     /**
      * Extract
      * Note: increment and decrementUsage are relayed to the source promisor.
@@ -53,4 +240,21 @@ public interface Promisors {
      * @param <R> the new Promisor deliverable type
      */
     <T, R> Promisor<R> createExtractPromisor(Promisor<T> promisor, Function<T, R> extractor);
+    
+    /**
+     * Extract, only extracting again when the source deliverable changes.
+     * Sources are compared by identity, a new source is delivered for example after a life cycle
+     * deliverable is closed and created again or after the source contract is rebound.
+     * Note: increment and decrementUsage are relayed to the source promisor.
+     * Note: by default an extract promisor is created, extracting on every demand.
+     *
+     * @param promisor the source promisor
+     * @param extractor the function that gets an object from the deliverable. For example Person -> Age
+     * @return the new Promisor
+     * @param <T> the type of deliverable
+     * @param <R> the new Promisor deliverable type
+     */
+    default <T, R> Promisor<R> createMemoizedExtractPromisor(Promisor<T> promisor, Function<T, R> extractor) {
+        return createExtractPromisor(promisor, extractor);
+    }
 }
@@ -1,8 +1,12 @@
 package io.github.jonloucks.contracts.api;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import static io.github.jonloucks.contracts.api.BindStrategy.IF_ALLOWED;
+import static io.github.jonloucks.contracts.api.Checks.nullCheck;
 
 /**
  * A repository for multiple contract promisors
@@ -77,6 +81,35 @@ public interface Repository extends AutoOpen {
          keep(contract, promisor, IF_ALLOWED);
      }
     
+    /**
+     * Create the deliverables of the stored life cycle, singleton, refresh, soft and async contracts before they are first claimed.
+     * The deliverables are created concurrently, each at most once. A creation claiming another stored contract
+     * creates it on the same thread, or waits for it when another thread is already creating it.
+     * This is an opt-in feature, by default deliverables are created when first claimed.
+     *
+     * @return completes when every deliverable is created, or exceptionally when any creation failed
+     * @throws ContractException when the Repository is not open
+     */
+    default CompletionStage<Void> warmUp() {
+        return CompletableFuture.completedFuture(null);
+    }
+    
+    /**
+     * Create the deliverables of the stored life cycle, singleton, refresh, soft and async contracts before they are first claimed.
+     * The deliverables are created concurrently, each at most once. A creation claiming another stored contract
+     * creates it on the same thread, or waits for it when another thread is already creating it.
+     * This is an opt-in feature, by default deliverables are created when first claimed.
+     *
+     * @param executor runs the creation of each deliverable, for example a bounded pool or virtual threads
+     * @return completes when every deliverable is created, or exceptionally when any creation failed
+     * @throws ContractException when the Repository is not open
+     * @throws IllegalArgumentException when executor is null
+     */
+    default CompletionStage<Void> warmUp(Executor executor) {
+        nullCheck(executor, "Executor must be present.");
+        return CompletableFuture.completedFuture(null);
+    }
+    
     /**
      * Check that all requirements have fulfilled
      */
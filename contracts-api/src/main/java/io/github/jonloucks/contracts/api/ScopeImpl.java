@@ -0,0 +1,110 @@
+package io.github.jonloucks.contracts.api;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Default {@link Contracts.Scope}, delegating to an open Contracts.
+ * @see Contracts.Scope#create(Contracts, AutoClose)
+ */
+final class ScopeImpl implements Contracts.Scope {
+    
+    @Override
+    public AutoClose open() {
+        return contracts.open();
+    }
+    
+    @Override
+    public void close() {
+        closeContracts.close();
+    }
+    
+    @Override
+    public <T> T claim(Contract<T> contract) {
+        return contracts.claim(contract);
+    }
+    
+    @Override
+    public Object[] claimAll(Contract<?>... contracts) {
+        return this.contracts.claimAll(contracts);
+    }
+    
+    @Override
+    public <T> CompletionStage<T> claimAsync(Contract<T> contract) {
+        return contracts.claimAsync(contract);
+    }
+    
+    @Override
+    public int claimInt(IntContract contract) {
+        return contracts.claimInt(contract);
+    }
+    
+    @Override
+    public long claimLong(LongContract contract) {
+        return contracts.claimLong(contract);
+    }
+    
+    @Override
+    public double claimDouble(DoubleContract contract) {
+        return contracts.claimDouble(contract);
+    }
+    
+    @Override
+    public boolean claimBoolean(BooleanContract contract) {
+        return contracts.claimBoolean(contract);
+    }
+    
+    @Override
+    public <T> Optional<T> tryClaim(Contract<T> contract) {
+        return contracts.tryClaim(contract);
+    }
+    
+    @Override
+    public <T> T claimOrElse(Contract<T> contract, T fallback) {
+        return contracts.claimOrElse(contract, fallback);
+    }
+    
+    @Override
+    public <T> ClaimHandle<T> handle(Contract<T> contract) {
+        return contracts.handle(contract);
+    }
+    
+    @Override
+    public <T> MethodHandle constantHandle(Contract<T> contract) {
+        return contracts.constantHandle(contract);
+    }
+    
+    @Override
+    public DependencyGraph getDependencyGraph() {
+        return contracts.getDependencyGraph();
+    }
+    
+    @Override
+    public <T> boolean isBound(Contract<T> contract) {
+        return contracts.isBound(contract);
+    }
+    
+    @Override
+    public <T> AutoClose bind(Contract<T> contract, Promisor<T> promisor, BindStrategy bindStrategy) {
+        return contracts.bind(contract, promisor, bindStrategy);
+    }
+    
+    @Override
+    public AutoClose apply(Changeset changeset) {
+        return contracts.apply(changeset);
+    }
+    
+    @Override
+    public Contracts.Scope openScope() {
+        return contracts.openScope();
+    }
+    
+    ScopeImpl(Contracts contracts, AutoClose closeContracts) {
+        this.contracts = contracts;
+        this.closeContracts = closeContracts;
+    }
+    
+    private final Contracts contracts;
+    private final AutoClose closeContracts;
+}
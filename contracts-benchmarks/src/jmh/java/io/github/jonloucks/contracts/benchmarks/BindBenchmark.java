@@ -0,0 +1,69 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of binding and unbinding, such as a plugin that comes and goes.
+ * The churn benchmarks never claim, the claim benchmark shows the first claim after each bind.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=BindBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindBenchmark {
+
+    @Benchmark
+    public void bind_Unbind() {
+        contracts.bind(contract, () -> DELIVERABLE).close();
+    }
+
+    @Benchmark
+    public void bindLifeCycle_Unbind() {
+        contracts.bind(contract, promisors.createLifeCyclePromisor(() -> DELIVERABLE)).close();
+    }
+
+    @Benchmark
+    public String bind_Claim_Unbind() {
+        try (AutoClose closeBinding = contracts.bind(contract, () -> DELIVERABLE)) {
+            return contracts.claim(contract);
+        }
+    }
+
+    @Benchmark
+    public void bindReplace() {
+        contracts.bind(replacedContract, () -> DELIVERABLE, BindStrategy.ALWAYS);
+    }
+
+    @Setup
+    public void setup() {
+        contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        closeContracts = contracts.open();
+        promisors = contracts.claim(Promisors.CONTRACT);
+        contract = Contract.create("churn");
+        replacedContract = Contract.create(String.class, builder -> builder.name("replaced").replaceable(true));
+    }
+
+    @TearDown
+    public void tearDown() {
+        closeContracts.close();
+    }
+
+    private static final String DELIVERABLE = "deliverable";
+
+    private Contracts contracts;
+    private AutoClose closeContracts;
+    private Promisors promisors;
+    private Contract<String> contract;
+    private Contract<String> replacedContract;
+}
@@ -0,0 +1,71 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of binding many contracts at application start, as one Changeset or one contract at a time.
+ * Both benchmarks unbind everything again, so each invocation starts from an empty Contracts.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=ChangesetBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChangesetBenchmark {
+
+    @Param({"100", "2000", "20000"})
+    public int contractCount;
+
+    @Benchmark
+    public void apply_Close() {
+        final Changeset changeset = Changeset.create();
+        for (Contract<String> contract : changesetContracts) {
+            changeset.bind(contract, PROMISOR);
+        }
+        contracts.apply(changeset).close();
+    }
+
+    @Benchmark
+    public void bindEach_CloseEach() {
+        final List<AutoClose> closeBindings = new ArrayList<>(contractCount);
+        for (Contract<String> contract : changesetContracts) {
+            closeBindings.add(contracts.bind(contract, PROMISOR));
+        }
+        for (int i = closeBindings.size() - 1; i >= 0; i--) {
+            closeBindings.get(i).close();
+        }
+    }
+
+    @Setup
+    public void setup() {
+        contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        closeContracts = contracts.open();
+        changesetContracts.clear();
+        for (int i = 0; i < contractCount; i++) {
+            changesetContracts.add(Contract.create("startup-" + i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        closeContracts.close();
+    }
+
+    private static final Promisor<String> PROMISOR = () -> "deliverable";
+
+    private final List<Contract<String>> changesetContracts = new ArrayList<>();
+    private Contracts contracts;
+    private AutoClose closeContracts;
+}
@@ -0,0 +1,130 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claim throughput of a bound contract at increasing thread counts.
+ * Claims do not lock or allocate, so the operations per second should grow with the thread count.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=ClaimBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaimBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public String claim_Threads_1() {
+        return contracts.claim(contract);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String claim_Threads_2() {
+        return contracts.claim(contract);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String claim_Threads_4() {
+        return contracts.claim(contract);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String claim_Threads_8() {
+        return contracts.claim(contract);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String claim_Threads_16() {
+        return contracts.claim(contract);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String handle_Threads_1() {
+        return handle.get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String handle_Threads_8() {
+        return handle.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String claimOrElse_Miss() {
+        return contracts.claimOrElse(unboundContract, DELIVERABLE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<String> tryClaim_Miss() {
+        return contracts.tryClaim(unboundContract);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void claimEach_Contracts_8(Blackhole blackhole) {
+        for (Contract<?> each : group) {
+            blackhole.consume(contracts.claim(each));
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object[] claimAll_Contracts_8() {
+        return contracts.claimAll(group);
+    }
+
+    @Setup
+    public void setup() {
+        contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        closeContracts = contracts.open();
+        for (int i = 0; i < OTHER_BINDINGS; i++) {
+            final String deliverable = "other-" + i;
+            contracts.bind(Contract.create("other-" + i), () -> deliverable);
+        }
+        for (int i = 0; i < group.length; i++) {
+            final String deliverable = "group-" + i;
+            final Contract<String> member = Contract.create("group-" + i);
+            contracts.bind(member, () -> deliverable);
+            group[i] = member;
+        }
+        contract = Contract.create("claimed");
+        contracts.bind(contract, () -> DELIVERABLE);
+        handle = contracts.handle(contract);
+        unboundContract = Contract.create("unbound");
+    }
+
+    @TearDown
+    public void tearDown() {
+        closeContracts.close();
+    }
+
+    private static final int OTHER_BINDINGS = 100;
+    private static final String DELIVERABLE = "deliverable";
+
+    private Contracts contracts;
+    private AutoClose closeContracts;
+    private Contract<String> contract;
+    private ClaimHandle<String> handle;
+    private Contract<String> unboundContract;
+    private final Contract<?>[] group = new Contract<?>[8];
+}
@@ -0,0 +1,61 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady state cost of a constant handle, compared with a plain field read and the other claim paths.
+ * The handle is kept in a static final field, so the JIT can inline the deliverable as a constant.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=ConstantHandleBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstantHandleBenchmark {
+
+    @Benchmark
+    public String fieldRead() {
+        return field;
+    }
+
+    @Benchmark
+    public String constantHandle() throws Throwable {
+        return (String) (Object) CONSTANT_HANDLE.invokeExact();
+    }
+
+    @Benchmark
+    public String handle() {
+        return HANDLE.get();
+    }
+
+    @Benchmark
+    public String claim() {
+        return CONTRACTS.claim(CONTRACT);
+    }
+
+    private static final String DELIVERABLE = "deliverable";
+    private static final Contract<String> CONTRACT = Contract.create("constant");
+    private static final Contracts CONTRACTS = createContracts();
+    private static final MethodHandle CONSTANT_HANDLE = CONTRACTS.constantHandle(CONTRACT);
+    private static final ClaimHandle<String> HANDLE = CONTRACTS.handle(CONTRACT);
+
+    private static Contracts createContracts() {
+        final Contracts contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        contracts.open();
+        contracts.bind(CONTRACT, () -> DELIVERABLE);
+        return contracts;
+    }
+
+    private String field = DELIVERABLE;
+}
@@ -0,0 +1,68 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the static GlobalContracts access compared with claiming from a held Contracts.
+ * The difference is the lookup of the global instance on each call.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=GlobalContractsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalContractsBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public String claimContract_Threads_1() {
+        return GlobalContracts.claimContract(contract);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String claimContract_Threads_8() {
+        return GlobalContracts.claimContract(contract);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String heldClaim_Threads_1() {
+        return held.claim(contract);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String heldClaim_Threads_8() {
+        return held.claim(contract);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean isContractBound_Threads_1() {
+        return GlobalContracts.isContractBound(contract);
+    }
+
+    @Setup
+    public void setup() {
+        held = GlobalContracts.getInstance();
+        contract = Contract.create("global");
+        closeBinding = GlobalContracts.bindContract(contract, () -> DELIVERABLE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        closeBinding.close();
+    }
+
+    private static final String DELIVERABLE = "deliverable";
+
+    private Contracts held;
+    private Contract<String> contract;
+    private AutoClose closeBinding;
+}
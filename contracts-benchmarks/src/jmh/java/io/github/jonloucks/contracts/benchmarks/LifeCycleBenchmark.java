@@ -0,0 +1,163 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Demand throughput of a created life cycle deliverable, compared with the previous locked read path.
+ * The published path does not lock or allocate, so the operations per second should grow with the thread count.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=LifeCycleBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LifeCycleBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public String published_Threads_1() {
+        return published.demand();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String published_Threads_8() {
+        return published.demand();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String locked_Threads_1() {
+        return locked.demand();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String locked_Threads_8() {
+        return locked.demand();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String claim_Threads_8() {
+        return contracts.claim(contract);
+    }
+
+    @Setup
+    public void setup() {
+        contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        closeContracts = contracts.open();
+        final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+
+        published = promisors.createLifeCyclePromisor(() -> DELIVERABLE);
+        published.incrementUsage();
+        published.demand();
+
+        locked = new LockedLifeCyclePromisor<>(() -> DELIVERABLE);
+        locked.incrementUsage();
+        locked.demand();
+
+        contract = Contract.create("life cycle");
+        contracts.bind(contract, promisors.createLifeCyclePromisor(() -> DELIVERABLE));
+        contracts.claim(contract);
+    }
+
+    @TearDown
+    public void tearDown() {
+        published.decrementUsage();
+        locked.decrementUsage();
+        closeContracts.close();
+    }
+
+    /**
+     * The read path of the life cycle promisor before the deliverable was published,
+     * every demand enters the monitor, allocates a placeholder and reads several atomics.
+     */
+    private static final class LockedLifeCyclePromisor<T> implements Promisor<T> {
+
+        @Override
+        public T demand() {
+            synchronized (simpleLock) {
+                final AtomicReference<T> currentDeliverable = new AtomicReference<>();
+                if (getCurrentDeliverable(currentDeliverable)) {
+                    return currentDeliverable.get();
+                }
+                return createDeliverableIfNeeded();
+            }
+        }
+
+        @Override
+        public int incrementUsage() {
+            return usageCounter.incrementAndGet();
+        }
+
+        @Override
+        public int decrementUsage() {
+            final int currentUsage = usageCounter.decrementAndGet();
+            if (currentUsage == 0) {
+                atomicDeliverable.set(null);
+                isDeliverableAcquired.set(false);
+            }
+            return currentUsage;
+        }
+
+        LockedLifeCyclePromisor(Promisor<T> referentPromisor) {
+            this.referentPromisor = referentPromisor;
+        }
+
+        private boolean getCurrentDeliverable(AtomicReference<T> placeholder) {
+            if (usageCounter.get() == 0) {
+                throw new IllegalStateException("Usage count is zero.");
+            }
+            final Throwable thrown = openException.get();
+            if (thrown instanceof RuntimeException) {
+                throw (RuntimeException) thrown;
+            }
+            if (isDeliverableAcquired.get()) {
+                placeholder.set(atomicDeliverable.get());
+                return true;
+            }
+            return false;
+        }
+
+        private T createDeliverableIfNeeded() {
+            synchronized (simpleLock) {
+                if (isDeliverableAcquired.get()) {
+                    return atomicDeliverable.get();
+                }
+                final T deliverable = referentPromisor.demand();
+                atomicDeliverable.set(deliverable);
+                isDeliverableAcquired.set(true);
+                return deliverable;
+            }
+        }
+
+        private final AtomicInteger usageCounter = new AtomicInteger();
+        private final Promisor<T> referentPromisor;
+        private final AtomicBoolean isDeliverableAcquired = new AtomicBoolean();
+        private final AtomicReference<T> atomicDeliverable = new AtomicReference<>();
+        private final AtomicReference<Throwable> openException = new AtomicReference<>();
+        private final Object simpleLock = new Object();
+    }
+
+    private static final String DELIVERABLE = "deliverable";
+
+    private Contracts contracts;
+    private AutoClose closeContracts;
+    private Promisor<String> published;
+    private Promisor<String> locked;
+    private Contract<String> contract;
+}
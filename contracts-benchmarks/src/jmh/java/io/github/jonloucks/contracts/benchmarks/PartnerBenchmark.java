@@ -0,0 +1,89 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claims from the leaf of a layered partner graph, the contract is only bound at the root.
+ * Every Contracts in a layer has every Contracts of the layer below as a partner,
+ * so the number of paths grows with fanOut to the power of depth while the number of partners does not.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=PartnerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartnerBenchmark {
+
+    @Param({"1", "4", "8"})
+    public int depth;
+
+    @Param({"1", "2", "4"})
+    public int fanOut;
+
+    @Benchmark
+    public String claim_Hit() {
+        return leaf.claim(boundContract);
+    }
+
+    @Benchmark
+    public Optional<String> tryClaim_Miss() {
+        return leaf.tryClaim(unboundContract);
+    }
+
+    @Setup
+    public void setup() {
+        final Contracts root = open(Collections.emptyList());
+        List<Contracts> layer = Collections.singletonList(root);
+        for (int level = 0; level < depth; level++) {
+            final List<Contracts> nextLayer = new ArrayList<>();
+            for (int i = 0; i < fanOut; i++) {
+                nextLayer.add(open(layer));
+            }
+            layer = nextLayer;
+        }
+        leaf = open(layer);
+        boundContract = Contract.create("bound");
+        unboundContract = Contract.create("unbound");
+        root.bind(boundContract, () -> DELIVERABLE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (int i = opened.size() - 1; i >= 0; i--) {
+            opened.get(i).close();
+        }
+        opened.clear();
+    }
+
+    private Contracts open(List<Contracts> partners) {
+        final Contracts contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public List<Contracts> getPartners() {
+                return partners;
+            }
+
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        opened.add(contracts.open());
+        return contracts;
+    }
+
+    private static final String DELIVERABLE = "deliverable";
+
+    private final List<AutoClose> opened = new ArrayList<>();
+    private Contracts leaf;
+    private Contract<String> boundContract;
+    private Contract<String> unboundContract;
+}
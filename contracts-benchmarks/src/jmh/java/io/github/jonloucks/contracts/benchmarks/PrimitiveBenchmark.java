@@ -0,0 +1,105 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claim throughput of scalar configuration values, boxed contracts compared with primitive contracts.
+ * The deliverables are outside the Integer cache, so the boxed claims allocate unless escape analysis removes it.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=PrimitiveBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveBenchmark {
+
+    @Benchmark
+    public int boxed_Int() {
+        return contracts.claim(boxedInt);
+    }
+
+    @Benchmark
+    public int primitive_Int() {
+        return contracts.claimInt(primitiveInt);
+    }
+
+    @Benchmark
+    public long boxed_Long() {
+        return contracts.claim(boxedLong);
+    }
+
+    @Benchmark
+    public long primitive_Long() {
+        return contracts.claimLong(primitiveLong);
+    }
+
+    @Benchmark
+    public double boxed_Double() {
+        return contracts.claim(boxedDouble);
+    }
+
+    @Benchmark
+    public double primitive_Double() {
+        return contracts.claimDouble(primitiveDouble);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int boxed_Int_Threads_8() {
+        return contracts.claim(boxedInt);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int primitive_Int_Threads_8() {
+        return contracts.claimInt(primitiveInt);
+    }
+
+    @Setup
+    public void setup() {
+        contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        closeContracts = contracts.open();
+
+        boxedInt = Contract.create(Integer.class);
+        contracts.bind(boxedInt, () -> intValue);
+        primitiveInt = IntContract.create("int");
+        contracts.bindInt(primitiveInt, () -> intValue);
+
+        boxedLong = Contract.create(Long.class);
+        contracts.bind(boxedLong, () -> longValue);
+        primitiveLong = LongContract.create("long");
+        contracts.bindLong(primitiveLong, () -> longValue);
+
+        boxedDouble = Contract.create(Double.class);
+        contracts.bind(boxedDouble, () -> doubleValue);
+        primitiveDouble = DoubleContract.create("double");
+        contracts.bindDouble(primitiveDouble, () -> doubleValue);
+    }
+
+    @TearDown
+    public void tearDown() {
+        closeContracts.close();
+    }
+
+    private Contracts contracts;
+    private AutoClose closeContracts;
+    private Contract<Integer> boxedInt;
+    private IntContract primitiveInt;
+    private Contract<Long> boxedLong;
+    private LongContract primitiveLong;
+    private Contract<Double> boxedDouble;
+    private DoubleContract primitiveDouble;
+    private volatile int intValue = 30_000;
+    private volatile long longValue = 64L * 1024 * 1024;
+    private volatile double doubleValue = 0.01;
+}
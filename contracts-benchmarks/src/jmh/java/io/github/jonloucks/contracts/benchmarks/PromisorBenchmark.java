@@ -0,0 +1,89 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Demand cost of each kind of promisor with its deliverable already created.
+ * Thread scaling of the life cycle and singleton promisors is in LifeCycleBenchmark and SingletonBenchmark.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=PromisorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromisorBenchmark {
+
+    @Benchmark
+    public String value() {
+        return value.demand();
+    }
+
+    @Benchmark
+    public String singleton() {
+        return singleton.demand();
+    }
+
+    @Benchmark
+    public String lifeCycle() {
+        return lifeCycle.demand();
+    }
+
+    @Benchmark
+    public Integer extract() {
+        return extract.demand();
+    }
+
+    @Benchmark
+    public Integer memoizedExtract() {
+        return memoizedExtract.demand();
+    }
+
+    @Setup
+    public void setup() {
+        contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        closeContracts = contracts.open();
+        final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+
+        value = promisors.createValuePromisor(DELIVERABLE);
+
+        singleton = promisors.createSingletonPromisor(() -> DELIVERABLE);
+        singleton.demand();
+
+        lifeCycle = promisors.createLifeCyclePromisor(() -> DELIVERABLE);
+        lifeCycle.incrementUsage();
+        lifeCycle.demand();
+
+        extract = promisors.createExtractPromisor(value, String::hashCode);
+
+        memoizedExtract = promisors.createMemoizedExtractPromisor(value, String::hashCode);
+        memoizedExtract.incrementUsage();
+        memoizedExtract.demand();
+    }
+
+    @TearDown
+    public void tearDown() {
+        memoizedExtract.decrementUsage();
+        lifeCycle.decrementUsage();
+        closeContracts.close();
+    }
+
+    private static final String DELIVERABLE = "deliverable";
+
+    private Contracts contracts;
+    private AutoClose closeContracts;
+    private Promisor<String> value;
+    private Promisor<String> singleton;
+    private Promisor<String> lifeCycle;
+    private Promisor<Integer> extract;
+    private Promisor<Integer> memoizedExtract;
+}
@@ -0,0 +1,86 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of opening and closing a repository with a number of stored contracts, such as application start and stop.
+ * The claimed benchmark creates every deliverable before closing, so closing has dependencies to order.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=RepositoryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int contractCount;
+
+    @Benchmark
+    public void open_Close() {
+        final Repository repository = newRepository();
+        repository.open().close();
+    }
+
+    @Benchmark
+    public Object open_ClaimAll_Close() {
+        final Repository repository = newRepository();
+        Object last = null;
+        try (AutoClose closeRepository = repository.open()) {
+            for (Contract<Object> contract : repositoryContracts) {
+                last = contracts.claim(contract);
+            }
+        }
+        return last;
+    }
+
+    @Setup
+    public void setup() {
+        contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        closeContracts = contracts.open();
+        promisors = contracts.claim(Promisors.CONTRACT);
+        repositoryContracts.clear();
+        for (int i = 0; i < contractCount; i++) {
+            repositoryContracts.add(Contract.create("stored-" + i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        closeContracts.close();
+    }
+
+    private Repository newRepository() {
+        final Repository repository = contracts.claim(Repository.FACTORY).get();
+        Contract<Object> previous = null;
+        for (Contract<Object> contract : repositoryContracts) {
+            // each deliverable claims the one stored before it, making a chain to close in order
+            final Contract<Object> dependency = previous;
+            repository.store(contract, promisors.createLifeCyclePromisor(() -> {
+                if (null != dependency) {
+                    contracts.claim(dependency);
+                }
+                return new Object();
+            }));
+            previous = contract;
+        }
+        return repository;
+    }
+
+    private final List<Contract<Object>> repositoryContracts = new ArrayList<>();
+    private Contracts contracts;
+    private AutoClose closeContracts;
+    private Promisors promisors;
+}
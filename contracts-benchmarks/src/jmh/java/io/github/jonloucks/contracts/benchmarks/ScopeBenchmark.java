@@ -0,0 +1,79 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a short lived scope, such as one per request.
+ * Compares a scope against a new Contracts partnered with the parent.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=ScopeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScopeBenchmark {
+
+    @Benchmark
+    public String scope_BindClaimClose() {
+        try (Contracts.Scope scope = contracts.openScope()) {
+            scope.bind(scopeContract, () -> DELIVERABLE);
+            scope.claim(parentContract);
+            return scope.claim(scopeContract);
+        }
+    }
+
+    @Benchmark
+    public String partnered_BindClaimClose() {
+        final Contracts partnered = GlobalContracts.createContracts(partneredConfig);
+        try (AutoClose closePartnered = partnered.open()) {
+            partnered.bind(scopeContract, () -> DELIVERABLE);
+            partnered.claim(parentContract);
+            return partnered.claim(scopeContract);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        closeContracts = contracts.open();
+        parentContract = Contract.create("parent");
+        scopeContract = Contract.create("scope");
+        contracts.bind(parentContract, () -> DELIVERABLE);
+        partneredConfig = new Contracts.Config() {
+            @Override
+            public List<Contracts> getPartners() {
+                return Collections.singletonList(contracts);
+            }
+
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        closeContracts.close();
+    }
+
+    private static final String DELIVERABLE = "deliverable";
+
+    private Contracts contracts;
+    private AutoClose closeContracts;
+    private Contract<String> parentContract;
+    private Contract<String> scopeContract;
+    private Contracts.Config partneredConfig;
+}
@@ -0,0 +1,74 @@
+package io.github.jonloucks.contracts.benchmarks;
+
+import io.github.jonloucks.contracts.api.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Demand throughput of a created singleton deliverable, compared with a singleton wrapped in a life cycle promisor.
+ * Both read paths are a single volatile read, so the operations per second should grow with the thread count.
+ * Run with: ./gradlew :contracts-benchmarks:jmh -Pjmh.includes=SingletonBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SingletonBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public Object singleton_Threads_1() {
+        return singleton.demand();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object singleton_Threads_8() {
+        return singleton.demand();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object wrappedSingleton_Threads_1() {
+        return wrappedSingleton.demand();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object wrappedSingleton_Threads_8() {
+        return wrappedSingleton.demand();
+    }
+
+    @Setup
+    public void setup() {
+        contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        closeContracts = contracts.open();
+        final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+
+        singleton = promisors.createSingletonPromisor(Object::new);
+        singleton.demand();
+
+        wrappedSingleton = promisors.createLifeCyclePromisor(promisors.createSingletonPromisor(Object::new));
+        wrappedSingleton.incrementUsage();
+        wrappedSingleton.demand();
+    }
+
+    @TearDown
+    public void tearDown() {
+        wrappedSingleton.decrementUsage();
+        closeContracts.close();
+    }
+
+    private Contracts contracts;
+    private AutoClose closeContracts;
+    private Promisor<Object> singleton;
+    private Promisor<Object> wrappedSingleton;
+}
@@ -0,0 +1,124 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.AsyncPromisor;
+import io.github.jonloucks.contracts.api.ContractException;
+import io.github.jonloucks.contracts.api.Promisor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.github.jonloucks.contracts.api.Checks.nullCheck;
+import static io.github.jonloucks.contracts.api.Checks.promisorCheck;
+
+/**
+ * Implementation for {@link io.github.jonloucks.contracts.api.Promisors#createAsyncPromisor(Promisor, Executor)}
+ * @see io.github.jonloucks.contracts.api.Promisors#createAsyncPromisor(Promisor, Executor)
+ * @param <T> the type of deliverable
+ */
+final class AsyncPromisorImpl<T> implements AsyncPromisor<T>, DependencyRecorderImpl.Creator {
+    
+    @Override
+    public CompletionStage<T> demandAsync() {
+        // a copy, so callers can not complete the shared future
+        return getDeliverableFuture().copy();
+    }
+    
+    @Override
+    public T demand() {
+        try {
+            return getDeliverableFuture().join();
+        } catch (CompletionException thrown) {
+            final Throwable cause = thrown.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ContractException("Deliverable creation failed.", cause);
+        }
+    }
+    
+    @Override
+    public int incrementUsage() {
+        final int currentUsage = usageCounter.incrementAndGet();
+        referentPromisor.incrementUsage();
+        return currentUsage;
+    }
+    
+    @Override
+    public int decrementUsage() {
+        final int currentUsage = usageCounter.decrementAndGet();
+        try {
+            if (currentUsage == 0) {
+                // a creation still running completes a future nobody will see
+                atomicFuture.set(null);
+            }
+        } finally {
+            referentPromisor.decrementUsage();
+        }
+        return currentUsage;
+    }
+    
+    @Override
+    public void setCreationNanos(long nanos) {
+        creationNanos = nanos;
+    }
+    
+    @Override
+    public long getCreationNanos() {
+        return creationNanos;
+    }
+    
+    AsyncPromisorImpl(Promisor<T> referentPromisor, Executor executor) {
+        this.referentPromisor = promisorCheck(referentPromisor);
+        this.executor = nullCheck(executor, "Executor must be present.");
+    }
+    
+    private CompletableFuture<T> getDeliverableFuture() {
+        if (usageCounter.get() == 0) {
+            throw new IllegalStateException("Usage count is zero.");
+        }
+        while (true) {
+            final CompletableFuture<T> currentFuture = atomicFuture.get();
+            if (null != currentFuture && !currentFuture.isCompletedExceptionally()) {
+                return currentFuture;
+            }
+            final CompletableFuture<T> createdFuture = new CompletableFuture<>();
+            if (atomicFuture.compareAndSet(currentFuture, createdFuture)) {
+                startCreation(createdFuture);
+                // usage may have ended while starting, the deliverable is not kept for later demands
+                if (usageCounter.get() == 0) {
+                    atomicFuture.compareAndSet(createdFuture, null);
+                }
+                return createdFuture;
+            }
+        }
+    }
+    
+    private void startCreation(CompletableFuture<T> future) {
+        try {
+            executor.execute(() -> createDeliverable(future));
+        } catch (RuntimeException thrown) {
+            future.completeExceptionally(thrown);
+        }
+    }
+    
+    private void createDeliverable(CompletableFuture<T> future) {
+        try {
+            future.complete(DependencyRecorderImpl.create(this, referentPromisor::demand));
+        } catch (Throwable thrown) {
+            future.completeExceptionally(thrown);
+        }
+    }
+    
+    private final AtomicInteger usageCounter = new AtomicInteger();
+    private final Promisor<T> referentPromisor;
+    private final Executor executor;
+    private final AtomicReference<CompletableFuture<T>> atomicFuture = new AtomicReference<>();
+    private volatile long creationNanos = -1;
+}
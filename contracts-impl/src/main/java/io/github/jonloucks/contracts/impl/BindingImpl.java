@@ -0,0 +1,92 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.Contract;
+import io.github.jonloucks.contracts.api.Promisor;
+
+import java.lang.invoke.SwitchPoint;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A binding between a Contract and a Promisor.
+ * The binding is active until it is replaced or removed, it never becomes active again.
+ * @param <T> the type of deliverable
+ */
+final class BindingImpl<T> {
+    
+    Contract<T> getContract() {
+        return contract;
+    }
+    
+    Promisor<T> getPromisor() {
+        return promisor;
+    }
+    
+    /**
+     * Demand the deliverable, checked by the contract.
+     * A deliverable published by a value, singleton or life cycle promisor is only type checked once,
+     * any other deliverable is checked on every claim.
+     *
+     * @param forContract the contract of this binding, only used for the type of the deliverable
+     * @return the checked deliverable
+     */
+    @SuppressWarnings("unchecked")
+    <R> R claim(Contract<R> forContract) {
+        if (null != publisher) {
+            final PublishedImpl<T> published = publisher.getPublished();
+            if (null != published) {
+                return (R) published.checked(contract);
+            }
+        }
+        return (R) contract.cast(promisor.demand());
+    }
+    
+    /**
+     * @return the insertion order, a replacement keeps the order of the binding it replaced
+     */
+    long getOrder() {
+        return order;
+    }
+    
+    /**
+     * @return true until the binding has been replaced or removed
+     */
+    boolean isActive() {
+        return active;
+    }
+    
+    void deactivate() {
+        active = false;
+        final SwitchPoint currentSwitchPoint = switchPoint.get();
+        if (null != currentSwitchPoint) {
+            SwitchPoint.invalidateAll(new SwitchPoint[] { currentSwitchPoint });
+        }
+    }
+    
+    /**
+     * The switch point is created on first use and invalidated when the binding is deactivated.
+     * Note: check {@link #isActive()} after getting the switch point, it may have been deactivated before
+     */
+    SwitchPoint getSwitchPoint() {
+        final SwitchPoint currentSwitchPoint = switchPoint.get();
+        if (null != currentSwitchPoint) {
+            return currentSwitchPoint;
+        }
+        switchPoint.compareAndSet(null, new SwitchPoint());
+        return switchPoint.get();
+    }
+    
+    @SuppressWarnings("unchecked")
+    BindingImpl(Contract<T> contract, Promisor<T> promisor, long order) {
+        this.contract = contract;
+        this.promisor = promisor;
+        this.order = order;
+        this.publisher = promisor instanceof PublishedImpl.Publisher ? (PublishedImpl.Publisher<T>) promisor : null;
+    }
+    
+    private final Contract<T> contract;
+    private final Promisor<T> promisor;
+    private final long order;
+    private volatile boolean active = true;
+    private final AtomicReference<SwitchPoint> switchPoint = new AtomicReference<>();
+    private final PublishedImpl.Publisher<T> publisher;
+}
@@ -0,0 +1,194 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.Contract;
+import io.github.jonloucks.contracts.api.Promisor;
+
+import java.util.*;
+
+/**
+ * Immutable table of bindings, indexed by {@link Contract#getId()} modulo the capacity.
+ * Contract ids are dense and increasing, so resolution is normally a single array read and an identity check,
+ * sparse ids probe the following slots. No hashing or equals is used.
+ * The capacity follows the number of bindings, not the largest id, so a change costs the same however many
+ * contracts the process has created, and the table shrinks as bindings are removed.
+ * Every change returns a new table, the owner publishes it with a single volatile write.
+ * Many changes at once are made with {@link #change(int)} and {@link #removeAll(List)}, copying the slots once.
+ * Slots are cleared when unbound, so the table never holds a Contract that is no longer bound.
+ */
+final class BindingTableImpl {
+    
+    private static final int MINIMUM_CAPACITY = 16;
+    
+    static final BindingTableImpl EMPTY = new BindingTableImpl(new BindingImpl<?>[MINIMUM_CAPACITY], 0, 1);
+    
+    BindingImpl<?> get(Contract<?> contract) {
+        return find(slots, contract);
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    /**
+     * Create a new binding for this table, a replacement keeps the order of the current binding
+     */
+    <T> BindingImpl<T> newBinding(Contract<T> contract, Promisor<T> promisor) {
+        final BindingImpl<?> current = get(contract);
+        return new BindingImpl<>(contract, promisor, null == current ? nextOrder : current.getOrder());
+    }
+    
+    BindingTableImpl put(BindingImpl<?> binding) {
+        final boolean isNew = null == get(binding.getContract());
+        final int changedSize = isNew ? size + 1 : size;
+        final int capacity = capacityFor(changedSize);
+        final BindingImpl<?>[] changedSlots = capacity > slots.length ? copySlots(capacity, Collections.emptySet()) : slots.clone();
+        
+        insert(changedSlots, binding);
+        return new BindingTableImpl(changedSlots, changedSize, isNew ? nextOrder + 1 : nextOrder);
+    }
+    
+    BindingTableImpl remove(BindingImpl<?> binding) {
+        return removeAll(Collections.singletonList(binding));
+    }
+    
+    /**
+     * Remove the bindings with a single copy, bindings no longer in the table are ignored
+     */
+    BindingTableImpl removeAll(List<BindingImpl<?>> bindings) {
+        final Set<BindingImpl<?>> removed = new HashSet<>();
+        for (BindingImpl<?> binding : bindings) {
+            if (get(binding.getContract()) == binding) {
+                removed.add(binding);
+            }
+        }
+        if (removed.isEmpty()) {
+            return this;
+        }
+        if (removed.size() == size) {
+            return EMPTY;
+        }
+        // copied rather than cleared, a probe must not stop at a removed slot
+        final int changedSize = size - removed.size();
+        return new BindingTableImpl(copySlots(capacityFor(changedSize), removed), changedSize, nextOrder);
+    }
+    
+    /**
+     * Start a change of many bindings, the slots are copied once for all of them
+     *
+     * @param additions the most bindings the change may add, used to size the slots
+     * @return the change, {@link ChangeImpl#toTable()} returns the changed table
+     */
+    ChangeImpl change(int additions) {
+        return new ChangeImpl(copySlots(capacityFor(size + additions), Collections.emptySet()), size, nextOrder);
+    }
+    
+    /**
+     * A table being changed, only used by the thread making the change before it is published
+     */
+    static final class ChangeImpl {
+        
+        BindingImpl<?> get(Contract<?> contract) {
+            return find(slots, contract);
+        }
+        
+        /**
+         * Create a new binding for the changed table, a replacement keeps the order of the current binding
+         */
+        <T> BindingImpl<T> newBinding(Contract<T> contract, Promisor<T> promisor) {
+            final BindingImpl<?> current = get(contract);
+            return new BindingImpl<>(contract, promisor, null == current ? nextOrder : current.getOrder());
+        }
+        
+        void put(BindingImpl<?> binding) {
+            if (null == get(binding.getContract())) {
+                size++;
+                nextOrder++;
+                if (capacityFor(size) > slots.length) {
+                    slots = copy(slots, capacityFor(size), Collections.emptySet());
+                }
+            }
+            insert(slots, binding);
+        }
+        
+        BindingTableImpl toTable() {
+            // sized for additions, replacements leave the slots larger than needed
+            final int capacity = capacityFor(size);
+            return new BindingTableImpl(capacity < slots.length ? copy(slots, capacity, Collections.emptySet()) : slots,
+                size, nextOrder);
+        }
+        
+        private ChangeImpl(BindingImpl<?>[] slots, int size, long nextOrder) {
+            this.slots = slots;
+            this.size = size;
+            this.nextOrder = nextOrder;
+        }
+        
+        private BindingImpl<?>[] slots;
+        private int size;
+        private long nextOrder;
+    }
+    
+    /**
+     * @return the bindings, the last to be inserted is first
+     */
+    List<BindingImpl<?>> inReverseOrder() {
+        final List<BindingImpl<?>> bindings = new ArrayList<>(size);
+        for (BindingImpl<?> binding : slots) {
+            if (null != binding) {
+                bindings.add(binding);
+            }
+        }
+        bindings.sort(Comparator.comparingLong(BindingImpl<?>::getOrder).reversed());
+        return bindings;
+    }
+    
+    private BindingTableImpl(BindingImpl<?>[] slots, int size, long nextOrder) {
+        this.slots = slots;
+        this.size = size;
+        this.nextOrder = nextOrder;
+    }
+    
+    private BindingImpl<?>[] copySlots(int capacity, Set<BindingImpl<?>> excluded) {
+        return copy(slots, capacity, excluded);
+    }
+    
+    private static BindingImpl<?>[] copy(BindingImpl<?>[] slots, int capacity, Set<BindingImpl<?>> excluded) {
+        final BindingImpl<?>[] copiedSlots = new BindingImpl<?>[capacity];
+        for (BindingImpl<?> binding : slots) {
+            if (null != binding && !excluded.contains(binding)) {
+                insert(copiedSlots, binding);
+            }
+        }
+        return copiedSlots;
+    }
+    
+    private static BindingImpl<?> find(BindingImpl<?>[] slots, Contract<?> contract) {
+        final int mask = slots.length - 1;
+        // at most half the slots are used, the probe always reaches an empty slot
+        for (int index = contract.getId() & mask; ; index = (index + 1) & mask) {
+            final BindingImpl<?> binding = slots[index];
+            if (null == binding || binding.getContract() == contract) {
+                return binding;
+            }
+        }
+    }
+    
+    private static void insert(BindingImpl<?>[] slots, BindingImpl<?> binding) {
+        final Contract<?> contract = binding.getContract();
+        final int mask = slots.length - 1;
+        int index = contract.getId() & mask;
+        while (null != slots[index] && slots[index].getContract() != contract) {
+            index = (index + 1) & mask;
+        }
+        slots[index] = binding;
+    }
+    
+    private static int capacityFor(int size) {
+        // a power of two at least twice the size, keeping probes short
+        return Math.max(MINIMUM_CAPACITY, Integer.highestOneBit(size) << 2);
+    }
+    
+    private final BindingImpl<?>[] slots;
+    private final int size;
+    private final long nextOrder;
+}
@@ -0,0 +1,50 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.ClaimHandle;
+import io.github.jonloucks.contracts.api.Contract;
+
+/**
+ * Implementation for {@link io.github.jonloucks.contracts.api.ClaimHandle}
+ * @see io.github.jonloucks.contracts.api.Contracts#handle(Contract)
+ * @param <T> the type of deliverable
+ */
+final class ClaimHandleImpl<T> implements ClaimHandle<T> {
+    
+    @Override
+    public T get() {
+        final BindingImpl<?> binding = resolvedBinding;
+        
+        contracts.recordDependency(contract);
+        // the binding state is the only volatile read on the fast path,
+        // the creation check is an opaque read that stays cached while nothing is being created
+        if (null != binding && binding.isActive()) {
+            return binding.claim(contract);
+        }
+        return resolveAndClaim();
+    }
+    
+    ClaimHandleImpl(ContractsImpl contracts, Contract<T> contract) {
+        this.contracts = contracts;
+        this.contract = contract;
+    }
+    
+    private T resolveAndClaim() {
+        final BindingImpl<?> binding = contracts.findBinding(contract);
+        
+        resolvedBinding = binding;
+        if (null != binding) {
+            return binding.claim(contract);
+        }
+        // only local bindings are kept, partners are searched on each claim
+        return contracts.claim(contract);
+    }
+    
+    private final ContractsImpl contracts;
+    private final Contract<T> contract;
+    
+    /**
+     * Not volatile by design, a stale value is corrected by the binding state.
+     * The binding fields are final, so it is always safely published.
+     */
+    private BindingImpl<?> resolvedBinding;
+}
@@ -0,0 +1,241 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.Contract;
+import io.github.jonloucks.contracts.api.ContractException;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Closes bindings in dependency order, independent bindings are closed in parallel.
+ * <p>
+ * A binding is closed after every binding that depends on it.
+ * Bindings depending on each other have no order, they are closed when nothing else can be.
+ * A binding taking longer than the binding timeout is abandoned and the bindings it depends on are closed anyway.
+ * At the deadline, closing stops and the bindings still open are reported.
+ * </p>
+ */
+final class CloseEngineImpl {
+    
+    CloseEngineImpl(int parallelism, Duration bindingTimeout) {
+        this.parallelism = parallelism;
+        this.bindingTimeoutNanos = bindingTimeout.toNanos();
+    }
+    
+    /**
+     * Close the given bindings
+     *
+     * @param bindings      the bindings to close, the last bound is first
+     * @param dependencies  the contracts each binding depends on
+     * @param breakBinding  closes a single binding
+     * @param deadlineNanos the System.nanoTime() when closing must be complete
+     * @throws ContractException when a binding is still open at the deadline or was abandoned
+     */
+    void close(List<BindingImpl<?>> bindings,
+               Function<BindingImpl<?>, Set<Contract<?>>> dependencies,
+               Consumer<BindingImpl<?>> breakBinding,
+               long deadlineNanos) {
+        if (bindings.isEmpty()) {
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, bindings.size()), CloseEngineImpl::newCloseThread);
+        try {
+            new CloseRun(bindings, dependencies, breakBinding, deadlineNanos, executor).run();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private static Thread newCloseThread(Runnable runnable) {
+        final Thread thread = new Thread(runnable, "contracts-close");
+        thread.setDaemon(true);
+        return thread;
+    }
+    
+    /**
+     * The state of closing one set of bindings
+     */
+    private final class CloseRun {
+        
+        CloseRun(List<BindingImpl<?>> bindings,
+                 Function<BindingImpl<?>, Set<Contract<?>>> dependencies,
+                 Consumer<BindingImpl<?>> breakBinding,
+                 long deadlineNanos,
+                 ExecutorService executor) {
+            this.bindings = bindings;
+            this.breakBinding = breakBinding;
+            this.deadlineNanos = deadlineNanos;
+            this.completion = new ExecutorCompletionService<>(executor);
+            
+            final Map<Contract<?>, BindingImpl<?>> byContract = new HashMap<>();
+            for (BindingImpl<?> binding : bindings) {
+                byContract.put(binding.getContract(), binding);
+                dependentCounts.put(binding, 0);
+                dependsOn.put(binding, new ArrayList<>());
+            }
+            for (BindingImpl<?> binding : bindings) {
+                for (Contract<?> contract : dependencies.apply(binding)) {
+                    final BindingImpl<?> dependency = byContract.get(contract);
+                    if (null != dependency && dependency != binding) {
+                        dependsOn.get(binding).add(dependency);
+                        dependentCounts.merge(dependency, 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        
+        void run() {
+            submitReady();
+            try {
+                while (closed.size() + abandoned.size() < bindings.size()) {
+                    final long nowNanos = System.nanoTime();
+                    if (nowNanos - deadlineNanos >= 0) {
+                        break;
+                    }
+                    final Future<BindingImpl<?>> future = completion.poll(nextWaitNanos(nowNanos), TimeUnit.NANOSECONDS);
+                    if (null != future) {
+                        complete(future);
+                    }
+                    abandonExpired();
+                    if (running.isEmpty()) {
+                        submitCycle();
+                    }
+                }
+            } catch (InterruptedException thrown) {
+                Thread.currentThread().interrupt();
+            }
+            reportStillOpen();
+        }
+        
+        private void submitReady() {
+            for (BindingImpl<?> binding : bindings) {
+                if (dependentCounts.get(binding) == 0) {
+                    submit(binding);
+                }
+            }
+        }
+        
+        private void submitCycle() {
+            // nothing is running and nothing is ready, the remaining bindings depend on each other
+            for (BindingImpl<?> binding : bindings) {
+                if (!submitted.contains(binding)) {
+                    submit(binding);
+                }
+            }
+        }
+        
+        private void submit(BindingImpl<?> binding) {
+            if (submitted.add(binding)) {
+                running.put(completion.submit(() -> {
+                    startedNanos.put(binding, System.nanoTime());
+                    breakBinding.accept(binding);
+                    return binding;
+                }), binding);
+            }
+        }
+        
+        private void complete(Future<BindingImpl<?>> future) {
+            final BindingImpl<?> binding = running.remove(future);
+            if (null == binding) {
+                return;
+            }
+            try {
+                future.get();
+            } catch (ExecutionException thrown) {
+                failures.add(thrown.getCause());
+            } catch (InterruptedException thrown) {
+                Thread.currentThread().interrupt();
+            }
+            closed.add(binding);
+            release(binding);
+        }
+        
+        private void abandonExpired() {
+            final long nowNanos = System.nanoTime();
+            final List<Future<BindingImpl<?>>> expired = new ArrayList<>();
+            running.forEach((future, binding) -> {
+                final Long started = startedNanos.get(binding);
+                if (null != started && nowNanos - started >= bindingTimeoutNanos) {
+                    expired.add(future);
+                }
+            });
+            for (Future<BindingImpl<?>> future : expired) {
+                final BindingImpl<?> binding = running.remove(future);
+                future.cancel(true);
+                abandoned.add(binding);
+                release(binding);
+            }
+        }
+        
+        private void release(BindingImpl<?> binding) {
+            for (BindingImpl<?> dependency : dependsOn.get(binding)) {
+                if (dependentCounts.merge(dependency, -1, Integer::sum) == 0) {
+                    submit(dependency);
+                }
+            }
+        }
+        
+        private long nextWaitNanos(long nowNanos) {
+            long waitNanos = deadlineNanos - nowNanos;
+            for (BindingImpl<?> binding : running.values()) {
+                final Long started = startedNanos.get(binding);
+                if (null != started) {
+                    waitNanos = Math.min(waitNanos, started + bindingTimeoutNanos - nowNanos);
+                } else {
+                    // not started yet, check again within the binding timeout
+                    waitNanos = Math.min(waitNanos, bindingTimeoutNanos);
+                }
+            }
+            return Math.max(0, waitNanos);
+        }
+        
+        private void reportStillOpen() {
+            final List<Contract<?>> stillOpen = new ArrayList<>();
+            for (BindingImpl<?> binding : bindings) {
+                if (!closed.contains(binding)) {
+                    stillOpen.add(binding.getContract());
+                }
+            }
+            if (!stillOpen.isEmpty()) {
+                final ContractException thrown = new ContractException("Contracts failed to close in time, still open: " + stillOpen + ".");
+                failures.forEach(thrown::addSuppressed);
+                throw thrown;
+            }
+            rethrowFirstFailure();
+        }
+        
+        private void rethrowFirstFailure() {
+            if (failures.isEmpty()) {
+                return;
+            }
+            final Throwable first = failures.get(0);
+            failures.subList(1, failures.size()).forEach(first::addSuppressed);
+            if (first instanceof Error) {
+                throw (Error) first;
+            }
+            if (first instanceof RuntimeException) {
+                throw (RuntimeException) first;
+            }
+            throw new ContractException("Contracts failed to close.", first);
+        }
+        
+        private final List<BindingImpl<?>> bindings;
+        private final Consumer<BindingImpl<?>> breakBinding;
+        private final long deadlineNanos;
+        private final CompletionService<BindingImpl<?>> completion;
+        private final Map<BindingImpl<?>, Integer> dependentCounts = new IdentityHashMap<>();
+        private final Map<BindingImpl<?>, List<BindingImpl<?>>> dependsOn = new IdentityHashMap<>();
+        private final Map<Future<BindingImpl<?>>, BindingImpl<?>> running = new LinkedHashMap<>();
+        private final Map<BindingImpl<?>, Long> startedNanos = new ConcurrentHashMap<>();
+        private final Set<BindingImpl<?>> submitted = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Set<BindingImpl<?>> closed = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Set<BindingImpl<?>> abandoned = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final List<Throwable> failures = new ArrayList<>();
+    }
+    
+    private final int parallelism;
+    private final long bindingTimeoutNanos;
+}
@@ -0,0 +1,61 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.Contract;
+import io.github.jonloucks.contracts.api.ContractException;
+
+import java.lang.invoke.*;
+
+/**
+ * Implementation for {@link io.github.jonloucks.contracts.api.Contracts#constantHandle(Contract)}
+ * <p>
+ * The call site is linked to the deliverable as a constant, guarded by the SwitchPoint of the binding.
+ * Binding, rebinding or unbinding the contract invalidates the SwitchPoint and the next invocation relinks.
+ * Contracts that are not bound locally are claimed on every invocation.
+ * </p>
+ * @see io.github.jonloucks.contracts.api.Contracts#constantHandle(Contract)
+ * @param <T> the type of deliverable
+ */
+final class ConstantHandleImpl<T> {
+    
+    ConstantHandleImpl(ContractsImpl contracts, Contract<T> contract) {
+        this.contracts = contracts;
+        this.contract = contract;
+        this.relinkHandle = RELINK.bindTo(this);
+        this.callSite = new MutableCallSite(relinkHandle);
+    }
+    
+    MethodHandle getMethodHandle() {
+        return callSite.dynamicInvoker();
+    }
+    
+    private Object relink() {
+        final BindingImpl<?> binding = contracts.findBinding(contract);
+        if (null == binding) {
+            return contracts.claim(contract);
+        }
+        final SwitchPoint switchPoint = binding.getSwitchPoint();
+        final T deliverable = contract.cast(binding.getPromisor().demand());
+        
+        // A binding deactivated after this check has already invalidated the switch point
+        if (binding.isActive()) {
+            final MethodHandle constant = MethodHandles.constant(Object.class, deliverable);
+            callSite.setTarget(switchPoint.guardWithTest(constant, relinkHandle));
+        }
+        return deliverable;
+    }
+    
+    private static MethodHandle findRelink() {
+        try {
+            return MethodHandles.lookup().findVirtual(ConstantHandleImpl.class, "relink", MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException thrown) {
+            throw new ContractException("Unable to find the relink method.", thrown);
+        }
+    }
+    
+    private static final MethodHandle RELINK = findRelink();
+    
+    private final ContractsImpl contracts;
+    private final Contract<T> contract;
+    private final MethodHandle relinkHandle;
+    private final MutableCallSite callSite;
+}
@@ -2,14 +2,18 @@ package io.github.jonloucks.contracts.impl;
 
 import io.github.jonloucks.contracts.api.*;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import static io.github.jonloucks.contracts.api.Checks.*;
-import static java.util.Optional.ofNullable;
 
 /**
  * Implementation for {@link io.github.jonloucks.contracts.api.Contracts}
@@ -20,7 +24,9 @@ final class ContractsImpl implements Contracts {
     @Override
     public AutoClose open() {
         if (openState.transitionToOpen()) {
-            closeRepository.set(repository.open());
+            if (null != repository) {
+                closeRepository.set(repository.open());
+            }
             return this::close;
         }
         return AutoClose.NONE;
@@ -29,21 +35,168 @@ final class ContractsImpl implements Contracts {
     @Override
     public <T> T claim(Contract<T> contract) {
         final Contract<T> validContract = contractCheck(contract);
-        final Optional<Promisor<?>> promisor = getFromPromisorMap(validContract);
+        recordDependency(validContract);
+        // a single volatile read of the published table, no locking and no allocation
+        final BindingImpl<?> binding = bindingTable.get(validContract);
         
-        if (promisor.isPresent()) {
-            return validContract.cast(promisor.get().demand());
+        if (null != binding) {
+            return binding.claim(validContract);
         } else {
             return claimFromPartners(validContract);
         }
     }
     
+    @Override
+    public Object[] claimAll(Contract<?>... contracts) {
+        final Contract<?>[] validContracts = nullCheck(contracts, "Contracts must be present.");
+        for (Contract<?> contract : validContracts) {
+            recordDependency(contractCheck(contract));
+        }
+        // one read of the published table, every contract sees the same bindings
+        final BindingTableImpl table = bindingTable;
+        final Object[] deliverables = new Object[validContracts.length];
+        
+        for (int i = 0; i < validContracts.length; i++) {
+            final BindingImpl<?> binding = table.get(validContracts[i]);
+            
+            if (null != binding) {
+                deliverables[i] = binding.claim(validContracts[i]);
+            } else {
+                deliverables[i] = claimFromPartners(validContracts[i]);
+            }
+        }
+        return deliverables;
+    }
+    
+    @Override
+    public <T> CompletionStage<T> claimAsync(Contract<T> contract) {
+        final Contract<T> validContract = contractCheck(contract);
+        recordDependency(validContract);
+        final Promisor<?> promisor = findPromisor(validContract);
+        
+        if (promisor instanceof AsyncPromisor) {
+            // the calling thread never waits, the cast is applied once the deliverable is created
+            return ((AsyncPromisor<?>) promisor).demandAsync().thenApply(validContract::cast);
+        }
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            if (null == promisor) {
+                throw newContractNotPromisedException(validContract);
+            }
+            future.complete(validContract.cast(promisor.demand()));
+        } catch (RuntimeException thrown) {
+            future.completeExceptionally(thrown);
+        }
+        return future;
+    }
+    
+    @Override
+    public int claimInt(IntContract contract) {
+        final Promisor<?> promisor = findClaimedPromisor(nullCheck(contract, "Contract must be present.").getContract());
+        
+        if (promisor instanceof IntPromisor) {
+            return ((IntPromisor) promisor).demandInt();
+        }
+        return unboxed(contract.getContract(), contract.getContract().cast(promisor.demand()));
+    }
+    
+    @Override
+    public long claimLong(LongContract contract) {
+        final Promisor<?> promisor = findClaimedPromisor(nullCheck(contract, "Contract must be present.").getContract());
+        
+        if (promisor instanceof LongPromisor) {
+            return ((LongPromisor) promisor).demandLong();
+        }
+        return unboxed(contract.getContract(), contract.getContract().cast(promisor.demand()));
+    }
+    
+    @Override
+    public double claimDouble(DoubleContract contract) {
+        final Promisor<?> promisor = findClaimedPromisor(nullCheck(contract, "Contract must be present.").getContract());
+        
+        if (promisor instanceof DoublePromisor) {
+            return ((DoublePromisor) promisor).demandDouble();
+        }
+        return unboxed(contract.getContract(), contract.getContract().cast(promisor.demand()));
+    }
+    
+    @Override
+    public boolean claimBoolean(BooleanContract contract) {
+        final Promisor<?> promisor = findClaimedPromisor(nullCheck(contract, "Contract must be present.").getContract());
+        
+        if (promisor instanceof BooleanPromisor) {
+            return ((BooleanPromisor) promisor).demandBoolean();
+        }
+        return unboxed(contract.getContract(), contract.getContract().cast(promisor.demand()));
+    }
+    
+    @Override
+    public <T> Optional<T> tryClaim(Contract<T> contract) {
+        final Contract<T> validContract = contractCheck(contract);
+        recordDependency(validContract);
+        final Promisor<?> promisor = findPromisor(validContract);
+        
+        if (null != promisor) {
+            return Optional.ofNullable(validContract.cast(promisor.demand()));
+        }
+        return Optional.empty();
+    }
+    
+    @Override
+    public <T> T claimOrElse(Contract<T> contract, T fallback) {
+        final Contract<T> validContract = contractCheck(contract);
+        recordDependency(validContract);
+        final Promisor<?> promisor = findPromisor(validContract);
+        
+        if (null != promisor) {
+            return validContract.cast(promisor.demand());
+        }
+        return fallback;
+    }
+    
+    @Override
+    public <T> ClaimHandle<T> handle(Contract<T> contract) {
+        final Contract<T> validContract = contractCheck(contract);
+        
+        return new ClaimHandleImpl<>(this, validContract);
+    }
+    
+    @Override
+    public <T> MethodHandle constantHandle(Contract<T> contract) {
+        final Contract<T> validContract = contractCheck(contract);
+        
+        return new ConstantHandleImpl<>(this, validContract).getMethodHandle();
+    }
+    
+    @Override
+    public Scope openScope() {
+        final ContractsImpl scope = new ContractsImpl(this);
+        
+        return Scope.create(scope, scope.open());
+    }
+    
+    @Override
+    public DependencyGraph getDependencyGraph() {
+        final Map<Contract<?>, Set<Contract<?>>> graph = new HashMap<>();
+        final Map<Contract<?>, Duration> creationTimes = new HashMap<>();
+        
+        for (BindingImpl<?> binding : bindingTable.inReverseOrder()) {
+            final Promisor<?> promisor = binding.getPromisor();
+            final Long creationNanos = DependencyRecorderImpl.getCreationNanos(promisor);
+            
+            graph.put(binding.getContract(), dependencies.get(promisor));
+            if (null != creationNanos) {
+                creationTimes.put(binding.getContract(), Duration.ofNanos(creationNanos));
+            }
+        }
+        return DependencyGraph.create(graph, creationTimes);
+    }
+    
     @Override
     public <T> boolean isBound(Contract<T> contract) {
         final Contract<?> validContract = contractCheck(contract);
-        final Optional<Promisor<?>> promisor = getFromPromisorMap(validContract);
         
-        return promisor.isPresent() || isAnyPartnerBound(contract);
+        return null != findPromisor(validContract);
     }
     
     @Override
@@ -55,48 +208,205 @@ final class ContractsImpl implements Contracts {
         return maybeBind(validContract, validPromisor, validBindStrategy);
     }
     
+    @Override
+    public AutoClose apply(Changeset changeset) {
+        final Changeset validChangeset = nullCheck(changeset, "Changeset must be present.");
+        final List<BindingImpl<?>> newBindings = bindAll(validChangeset);
+        
+        newBindings.removeIf(Objects::isNull);
+        if (newBindings.isEmpty()) {
+            return AutoClose.NONE;
+        }
+        final IdempotentImpl breakBindingsOnce = new IdempotentImpl();
+        breakBindingsOnce.transitionToOpen();
+        return () -> {
+            if (breakBindingsOnce.transitionToClosed()) {
+                breakBindings(newBindings);
+            }
+        };
+    }
+    
     ContractsImpl(Contracts.Config config) {
+        this(config, ShutdownCoordinatorImpl.INSTANCE);
+    }
+    
+    /**
+     * @param shutdownCoordinator closes this Contracts at shutdown when the config uses shutdown hooks
+     */
+    ContractsImpl(Contracts.Config config, ShutdownCoordinatorImpl shutdownCoordinator) {
         final Contracts.Config validConfig = configCheck(config);
         
+        this.parent = null;
+        this.repository = new RepositoryImpl(this);
+        this.closeParallelism = illegalCheck(validConfig.closeParallelism(), validConfig.closeParallelism() < 1, "Close parallelism must be at least 1.");
+        this.closeTimeout = durationCheck(validConfig.closeTimeout(), "Close timeout must be positive.");
+        this.bindingCloseTimeout = durationCheck(validConfig.bindingCloseTimeout(), "Binding close timeout must be positive.");
+        this.shutdownParallelism = illegalCheck(validConfig.shutdownParallelism(), validConfig.shutdownParallelism() < 1, "Shutdown parallelism must be at least 1.");
+        this.shutdownTimeout = durationCheck(validConfig.shutdownTimeout(), "Shutdown timeout must be positive.");
         // keeping the promises open permanently
         repository.keep(Promisors.CONTRACT, PromisorsImpl::new);
         repository.keep(Repository.FACTORY, () -> () -> new RepositoryImpl(this));
         
-        partners.addAll(nullCheck(validConfig.getPartners(), "Partners must be present."));
+        this.partners = nullCheck(validConfig.getPartners(), "Partners must be present.").toArray(new Contracts[0]);
+        this.partnerIndex = new PartnerIndexImpl(partners);
         
         if (validConfig.useShutdownHooks()) {
-            Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+            this.closeShutdownRegistration = shutdownCoordinator.register(this);
+        } else {
+            this.closeShutdownRegistration = AutoClose.NONE;
+        }
+    }
+    
+    /**
+     * Create a scope of the parent.
+     * Nothing is copied from the parent, there is no repository and no shutdown hook.
+     * Contracts not bound to the scope are found in the parent.
+     */
+    private ContractsImpl(ContractsImpl parent) {
+        this.parent = parent;
+        this.repository = null;
+        this.partners = new Contracts[]{parent};
+        this.partnerIndex = null;
+        this.closeShutdownRegistration = AutoClose.NONE;
+        this.closeParallelism = 1;
+        this.closeTimeout = parent.closeTimeout;
+        this.bindingCloseTimeout = parent.bindingCloseTimeout;
+        this.shutdownParallelism = parent.shutdownParallelism;
+        this.shutdownTimeout = parent.shutdownTimeout;
+        
+        // a Repository created from the scope binds to the scope
+        bind(Repository.FACTORY, () -> () -> new RepositoryImpl(this));
+    }
+    
+    /**
+     * Record the contract as a dependency of the Promisor creating a deliverable on this thread.
+     * Nothing more than an opaque read of the creation count while no deliverable is being created.
+     */
+    void recordDependency(Contract<?> contract) {
+        final Promisor<?> creator = DependencyRecorderImpl.getCreator();
+        if (null != creator) {
+            dependencies.record(creator, contract);
         }
     }
     
-    private void close() {
+    /**
+     * Find the local binding, partners are not included
+     */
+    BindingImpl<?> findBinding(Contract<?> contract) {
+        return bindingTable.get(contract);
+    }
+    
+    int getShutdownParallelism() {
+        return shutdownParallelism;
+    }
+    
+    Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+    
+    /**
+     * @return the partners given by the configuration
+     */
+    Contracts[] getPartners() {
+        return partners.clone();
+    }
+    
+    /**
+     * Register a partner index to be invalidated when a binding changes
+     */
+    void addDependent(PartnerIndexImpl partnerIndex) {
+        dependents.removeIf(dependent -> null == dependent.get());
+        dependents.add(new WeakReference<>(partnerIndex));
+    }
+    
+    /**
+     * Find the Promisor in a single pass through the local bindings and then the partners
+     *
+     * @return the Promisor or null if not bound
+     */
+    Promisor<?> findPromisor(Contract<?> contract) {
+        final BindingImpl<?> binding = bindingTable.get(contract);
+        
+        if (null != binding) {
+            return binding.getPromisor();
+        }
+        return findPartnerPromisor(contract);
+    }
+    
+    /**
+     * Apply a Changeset where each binding can be released on its own
+     *
+     * @return the AutoClose for each binding of the Changeset, in the same order
+     */
+    List<AutoClose> bindEach(Changeset changeset) {
+        final List<BindingImpl<?>> newBindings = bindAll(changeset);
+        final List<AutoClose> closeBindings = new ArrayList<>(newBindings.size());
+        
+        for (BindingImpl<?> newBinding : newBindings) {
+            closeBindings.add(null == newBinding ? AutoClose.NONE : newBreakBinding(newBinding));
+        }
+        return closeBindings;
+    }
+    
+    /**
+     * Close by the shutdown coordinator or the AutoClose returned by open
+     */
+    void close() {
         if (openState.transitionToClosed()) {
             try {
-                for (int attempts = 1, broken = breakAllBindings(); broken > 0; broken = breakAllBindings(), attempts++) {
-                    if (attempts > 5) {
-                        throw newCloseDidNotCompleteException();
-                    }
+                if (closeParallelism > 1) {
+                    closeInDependencyOrder();
+                } else {
+                    closeInReverseOrder();
                 }
             } finally {
-                closeRepository.close();
+                try {
+                    closeRepository.close();
+                } finally {
+                    closeShutdownRegistration.close();
+                }
+            }
+        }
+    }
+    
+    private void closeInReverseOrder() {
+        for (int attempts = 1, broken = breakAllBindings(); broken > 0; broken = breakAllBindings(), attempts++) {
+            if (attempts > 5) {
+                throw newCloseDidNotCompleteException();
             }
         }
     }
     
+    private void closeInDependencyOrder() {
+        final CloseEngineImpl closeEngine = new CloseEngineImpl(closeParallelism, bindingCloseTimeout);
+        final long deadlineNanos = System.nanoTime() + closeTimeout.toNanos();
+        // a Promisor may bind while closing, those bindings are closed in the next attempt
+        for (int attempts = 1; ; attempts++) {
+            final List<BindingImpl<?>> bindings = bindingTable.inReverseOrder();
+            if (bindings.isEmpty()) {
+                return;
+            }
+            if (attempts > 5) {
+                throw newCloseDidNotCompleteException();
+            }
+            closeEngine.close(bindings, binding -> dependencies.get(binding.getPromisor()), this::breakBinding, deadlineNanos);
+        }
+    }
+    
     private <T> AutoClose maybeBind(Contract<T> contract, Promisor<T> newPromisor, BindStrategy bindStrategy) {
+        // checked once without the lock to skip the usage increment, and again under the lock before publishing
         if (checkBind(contract, newPromisor, bindStrategy)) {
-            return doBind(contract, newPromisor);
+            return doBind(contract, newPromisor, bindStrategy);
         } else {
             return AutoClose.NONE;
         }
     }
     
     private boolean checkBind(Contract<?> contract, Promisor<?> newPromisor, BindStrategy bindStrategy) {
-        final Optional<Promisor<?>> optionalCurrent = getFromPromisorMap(contract);
+        final BindingImpl<?> currentBinding = bindingTable.get(contract);
         
-        //noinspection OptionalIsPresent
-        if (optionalCurrent.isPresent()) {
-            return checkReplacement(contract, newPromisor, bindStrategy, optionalCurrent.get());
+        if (null != currentBinding) {
+            return checkReplacement(contract, newPromisor, bindStrategy, currentBinding.getPromisor());
         } else {
             return true;
         }
@@ -122,88 +432,213 @@ final class ContractsImpl implements Contracts {
         }
     }
     
-    private <T> AutoClose doBind(Contract<T> contract, Promisor<T> promisor) {
-        // Since ReentrantReadWriteLock does not support lock upgrade, there are opportunities
-        // for changes by other threads between the reads and writes.
-        // This is mitigated by always incrementing the new value and decrementing the old value.
+    private <T> AutoClose doBind(Contract<T> contract, Promisor<T> promisor, BindStrategy bindStrategy) {
+        // The usage is incremented before the lock, so no Promisor code runs while it is held.
+        // It is decremented again when another thread bound the contract in the meantime.
         promisor.incrementUsage();
-        return applyWithLock(mapLock.writeLock(), () -> {
-            ofNullable(promisorMap.put(contract, promisor)).ifPresent(Promisor::decrementUsage);
-            final IdempotentImpl breakBindingOnce = new IdempotentImpl();
-            breakBindingOnce.transitionToOpen();
-            return () -> {
-                if (breakBindingOnce.transitionToClosed()) {
-                    breakBinding(contract, promisor);
+        final boolean isTracked = dependencies.track(promisor);
+        BindingImpl<T> newBinding = null;
+        final BindingImpl<?> replacedBinding;
+        try {
+            tableLock.lock();
+            try {
+                replacedBinding = bindingTable.get(contract);
+                if (null == replacedBinding || checkReplacement(contract, promisor, bindStrategy, replacedBinding.getPromisor())) {
+                    newBinding = bindingTable.newBinding(contract, promisor);
+                    publishTable(bindingTable.put(newBinding));
+                }
+            } finally {
+                tableLock.unlock();
+            }
+        } finally {
+            if (null == newBinding) {
+                if (isTracked) {
+                    dependencies.forget(promisor);
+                }
+                promisor.decrementUsage();
+            }
+        }
+        if (null == newBinding) {
+            return AutoClose.NONE;
+        }
+        if (null != replacedBinding) {
+            // deactivated after the new binding is published, so handles resolve the new one
+            replacedBinding.deactivate();
+            dependencies.forget(replacedBinding.getPromisor());
+            replacedBinding.getPromisor().decrementUsage();
+        }
+        return newBreakBinding(newBinding);
+    }
+    
+    /**
+     * @return the new binding for each binding of the Changeset, null when not bound because of the bind strategy
+     */
+    private List<BindingImpl<?>> bindAll(Changeset changeset) {
+        // Every promisor is incremented before the lock, so no Promisor code runs while it is held.
+        // Those not bound are decremented again, a failure leaves the bindings as they were.
+        final List<Changeset.Binding<?>> bindings = changeset.getBindings();
+        final List<BindingImpl<?>> newBindings = new ArrayList<>(Collections.nCopies(bindings.size(), null));
+        final List<BindingImpl<?>> replacedBindings = new ArrayList<>();
+        final boolean[] isTracked = new boolean[bindings.size()];
+        int incremented = 0;
+        boolean isPublished = false;
+        try {
+            for (int i = 0; i < bindings.size(); i++) {
+                bindings.get(i).getPromisor().incrementUsage();
+                isTracked[i] = dependencies.track(bindings.get(i).getPromisor());
+                incremented++;
+            }
+            tableLock.lock();
+            try {
+                // checked against the current table, a concurrent bind can not slip in between check and publish
+                // the slots are copied once, sized for every binding of the Changeset
+                final BindingTableImpl.ChangeImpl changedTable = bindingTable.change(bindings.size());
+                for (int i = 0; i < bindings.size(); i++) {
+                    final Changeset.Binding<?> binding = bindings.get(i);
+                    final BindingImpl<?> replacedBinding = changedTable.get(binding.getContract());
+                    if (null != replacedBinding && !checkReplacement(binding.getContract(), binding.getPromisor(),
+                        binding.getBindStrategy(), replacedBinding.getPromisor())) {
+                        continue;
+                    }
+                    final BindingImpl<?> newBinding = newBinding(changedTable, binding);
+                    if (null != replacedBinding) {
+                        replacedBindings.add(replacedBinding);
+                    }
+                    newBindings.set(i, newBinding);
+                    changedTable.put(newBinding);
                 }
-            };
-        });
+                // one publication, a claim sees all or none of the Changeset
+                publishTable(changedTable.toTable());
+                isPublished = true;
+            } finally {
+                tableLock.unlock();
+            }
+        } finally {
+            for (int i = incremented - 1; i >= 0; i--) {
+                if (!isPublished || null == newBindings.get(i)) {
+                    if (isTracked[i]) {
+                        dependencies.forget(bindings.get(i).getPromisor());
+                    }
+                    bindings.get(i).getPromisor().decrementUsage();
+                }
+            }
+        }
+        for (BindingImpl<?> replacedBinding : replacedBindings) {
+            replacedBinding.deactivate();
+            dependencies.forget(replacedBinding.getPromisor());
+            replacedBinding.getPromisor().decrementUsage();
+        }
+        return newBindings;
     }
     
-    private void breakBinding(Contract<?> contract, Promisor<?> promisor) {
+    private static <T> BindingImpl<T> newBinding(BindingTableImpl.ChangeImpl table, Changeset.Binding<T> binding) {
+        return table.newBinding(binding.getContract(), binding.getPromisor());
+    }
+    
+    private AutoClose newBreakBinding(BindingImpl<?> binding) {
+        final IdempotentImpl breakBindingOnce = new IdempotentImpl();
+        breakBindingOnce.transitionToOpen();
+        return () -> {
+            if (breakBindingOnce.transitionToClosed()) {
+                breakBinding(binding);
+            }
+        };
+    }
+    
+    private void breakBinding(BindingImpl<?> binding) {
         // it is possible the Contract has already been removed or updated with a new Promisor
-        // Checking the removed promisor is required to avoid:
+        // Checking the removed binding is required to avoid:
         //   1. Calling decrementUsage twice on Promisors already removed
         //   2. Not calling decrementUsage enough times
         // decrementing usage too many times.
         try {
-            removeFromPromisorMap(contract, promisor);
+            applyWithLock(tableLock, () -> {
+                publishTable(bindingTable.remove(binding));
+                return null;
+            });
+            binding.deactivate();
         } finally {
-            promisor.decrementUsage();
+            dependencies.forget(binding.getPromisor());
+            binding.getPromisor().decrementUsage();
         }
     }
     
-    private void removeFromPromisorMap(Contract<?> contract, Promisor<?> promisor) {
-        applyWithLock(mapLock.writeLock(), () -> promisorMap.remove(contract, promisor));
-    }
-    
-    private <T> Optional<Promisor<?>> getFromPromisorMap(Contract<T> validContract) {
-        return ofNullable(applyWithLock(mapLock.readLock(), () -> promisorMap.get(validContract)));
+    private void breakBindings(List<BindingImpl<?>> bindings) {
+        // same rules as breakBinding, but the whole set is removed with one publication
+        try {
+            applyWithLock(tableLock, () -> {
+                publishTable(bindingTable.removeAll(bindings));
+                return null;
+            });
+            bindings.forEach(BindingImpl::deactivate);
+        } finally {
+            for (int i = bindings.size() - 1; i >= 0; i--) {
+                dependencies.forget(bindings.get(i).getPromisor());
+                bindings.get(i).getPromisor().decrementUsage();
+            }
+        }
     }
     
     private int breakAllBindings() {
-        final Stack<Contract<?>> contracts = new Stack<>();
-        final Stack<Promisor<?>> promisors = new Stack<>();
+        // The table is immutable, so no lock is needed to walk it.
+        // The bindings are broken in the reverse order from insertion.
+        // The last to be inserted is the first to be removed.
+        final List<BindingImpl<?>> bindings = bindingTable.inReverseOrder();
         
-        final int contractCount = copyBindings(contracts, promisors);
+        if (null != parent) {
+            // a scope removes all of its bindings with one publication, and then releases them last to first
+            Collections.reverse(bindings);
+            breakBindings(bindings);
+        } else {
+            bindings.forEach(this::breakBinding);
+        }
+        return bindings.size();
+    }
+    
+    private Promisor<?> findClaimedPromisor(Contract<?> contract) {
+        final Contract<?> validContract = contractCheck(contract);
+        recordDependency(validContract);
+        final Promisor<?> promisor = findPromisor(validContract);
         
-        while (!contracts.isEmpty()) {
-            breakBinding(contracts.pop(), promisors.pop());
+        if (null == promisor) {
+            throw newContractNotPromisedException(validContract);
         }
-        return contractCount;
+        return promisor;
     }
     
-    private int copyBindings(Stack<Contract<?>> contracts, Stack<Promisor<?>> promisors) {
-        // During shutdown other threads should be able to acquire read and write locks
-        // The following attains the write lock to attain all the current keys and values
-        // in the reverse order from insertion.
-        // The last to be inserted is the first to be removed.
-        final AtomicInteger contractCount = new AtomicInteger();
-        return applyWithLock(mapLock.writeLock(), () -> {
-            promisorMap.forEach((contract, promisor) -> {
-                contracts.push(contract);
-                promisors.push(promisor);
-                contractCount.incrementAndGet();
-            });
-            return contractCount.get();
-        });
+    private static <T> T unboxed(Contract<T> contract, T deliverable) {
+        if (null == deliverable) {
+            throw new ContractException("Contract " + contract + " delivered null.");
+        }
+        return deliverable;
     }
     
     private <T> T claimFromPartners(Contract<T> contract) {
-        if (!partners.isEmpty()) {
-            for (Contracts partner : partners) {
-                if (partner.isBound(contract)) {
-                    return partner.claim(contract);
-                }
-            }
+        final Promisor<?> promisor = findPartnerPromisor(contract);
+        
+        if (null != promisor) {
+            return contract.cast(promisor.demand());
         }
         throw newContractNotPromisedException(contract);
     }
     
-    private <T> boolean isAnyPartnerBound(Contract<T> contract) {
-        if (!partners.isEmpty()) {
-            return partners.stream().anyMatch(partner -> partner.isBound(contract));
+    private Promisor<?> findPartnerPromisor(Contract<?> contract) {
+        if (null != parent) {
+            return parent.findPromisor(contract);
+        }
+        return partnerIndex.findPromisor(contract);
+    }
+    
+    private void publishTable(BindingTableImpl changedTable) {
+        if (changedTable != bindingTable) {
+            bindingTable = changedTable;
+            for (WeakReference<PartnerIndexImpl> dependent : dependents) {
+                final PartnerIndexImpl partnerIndex = dependent.get();
+                if (null != partnerIndex) {
+                    partnerIndex.invalidate();
+                }
+            }
         }
-        return false;
     }
     
     private static <T> T applyWithLock(Lock requestedLock, Supplier<T> block) {
@@ -215,6 +650,11 @@ final class ContractsImpl implements Contracts {
         }
     }
     
+    private static Duration durationCheck(Duration duration, String message) {
+        final Duration validDuration = nullCheck(duration, message);
+        return illegalCheck(validDuration, validDuration.isNegative() || validDuration.isZero(), message);
+    }
+    
     private static ContractException newCloseDidNotCompleteException() {
         return new ContractException("Contracts failed to close after trying multiple times.");
     }
@@ -228,9 +668,25 @@ final class ContractsImpl implements Contracts {
     }
 
     private final IdempotentImpl openState = new IdempotentImpl();
-    private final ReentrantReadWriteLock mapLock = new ReentrantReadWriteLock();
-    private final LinkedHashMap<Contract<?>, Promisor<?>> promisorMap = new LinkedHashMap<>();
-    private final RepositoryImpl repository = new RepositoryImpl(this);
-    private final List<Contracts> partners = new ArrayList<>();
+    private final ReentrantLock tableLock = new ReentrantLock();
+    /**
+     * Immutable table indexed by contract id. Writers change and publish while holding tableLock.
+     */
+    private volatile BindingTableImpl bindingTable = BindingTableImpl.EMPTY;
+    private final RepositoryImpl repository;
+    /**
+     * The parent when this is a scope, otherwise null
+     */
+    private final ContractsImpl parent;
+    private final Contracts[] partners;
+    private final PartnerIndexImpl partnerIndex;
+    private final List<WeakReference<PartnerIndexImpl>> dependents = new CopyOnWriteArrayList<>();
     private final CloserImpl closeRepository = new CloserImpl();
+    private final AutoClose closeShutdownRegistration;
+    private final DependenciesImpl dependencies = new DependenciesImpl();
+    private final int closeParallelism;
+    private final Duration closeTimeout;
+    private final Duration bindingCloseTimeout;
+    private final int shutdownParallelism;
+    private final Duration shutdownTimeout;
 }
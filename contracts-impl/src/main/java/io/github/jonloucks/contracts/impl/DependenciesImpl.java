@@ -0,0 +1,54 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.Contract;
+import io.github.jonloucks.contracts.api.Promisor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The contracts claimed by each Promisor of a Contracts while creating its deliverable.
+ * Only Promisors bound in the Contracts are tracked, a Promisor of a scope or another Contracts
+ * claiming from this one is never kept alive by it.
+ * @see DependencyRecorderImpl
+ */
+final class DependenciesImpl {
+    
+    /**
+     * Track a Promisor before it is bound
+     *
+     * @return true if the Promisor was not tracked yet
+     */
+    boolean track(Promisor<?> creator) {
+        return null == dependencies.putIfAbsent(creator, ConcurrentHashMap.newKeySet());
+    }
+    
+    /**
+     * Record the contract as a dependency, ignored when the creator is not tracked
+     */
+    void record(Promisor<?> creator, Contract<?> contract) {
+        final Set<Contract<?>> claimed = dependencies.get(creator);
+        if (null != claimed) {
+            claimed.add(contract);
+        }
+    }
+    
+    /**
+     * @return the contracts claimed by the Promisor, empty if none were recorded
+     */
+    Set<Contract<?>> get(Promisor<?> creator) {
+        final Set<Contract<?>> claimed = dependencies.get(creator);
+        return null == claimed ? Collections.emptySet() : claimed;
+    }
+    
+    void forget(Promisor<?> creator) {
+        dependencies.remove(creator);
+    }
+    
+    DependenciesImpl() {
+    }
+    
+    private final Map<Promisor<?>, Set<Contract<?>>> dependencies = new ConcurrentHashMap<>();
+}
@@ -0,0 +1,106 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.Promisor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the Promisors creating a deliverable on the current thread.
+ * <p>
+ * A claim made while a deliverable is being created is a dependency of the creating Promisor.
+ * A count of the creations in progress gates the per thread state, once every deliverable exists
+ * a claim reads the count and nothing more. While other threads are creating, the count only leads
+ * to a ThreadLocal read, a thread only records the creations it is running itself.
+ * The time each Promisor spent creating, not counting nested creations, is kept by the Promisor itself.
+ * </p>
+ */
+final class DependencyRecorderImpl {
+    
+    /**
+     * A Promisor creating deliverables, keeps the time taken by its last creation
+     */
+    interface Creator {
+        
+        /**
+         * @param nanos the time taken by the last creation, not counting nested creations
+         */
+        void setCreationNanos(long nanos);
+        
+        /**
+         * @return the time taken by the last creation, not counting nested creations, negative if unknown
+         */
+        long getCreationNanos();
+    }
+    
+    /**
+     * Create a deliverable, claims made by the block are recorded as dependencies of the creator
+     *
+     * @param creator the Promisor creating the deliverable
+     * @param block   creates the deliverable
+     * @param <C>     the type of creator
+     * @param <T>     the type of deliverable
+     * @return the deliverable
+     */
+    static <C extends Promisor<?> & Creator, T> T create(C creator, Supplier<T> block) {
+        final CreationImpl outer = CREATION.get();
+        final CreationImpl creation = new CreationImpl(creator);
+        CREATION.set(creation);
+        CREATIONS.incrementAndGet();
+        try {
+            return block.get();
+        } finally {
+            CREATIONS.decrementAndGet();
+            if (null == outer) {
+                CREATION.remove();
+            } else {
+                CREATION.set(outer);
+            }
+            final long elapsedNanos = System.nanoTime() - creation.startNanos;
+            if (null != outer) {
+                outer.nestedNanos += elapsedNanos;
+            }
+            creator.setCreationNanos(elapsedNanos - creation.nestedNanos);
+        }
+    }
+    
+    /**
+     * @return the Promisor creating a deliverable on the current thread, null if none
+     */
+    static Promisor<?> getCreator() {
+        // opaque is enough, a thread that is creating always sees its own increment
+        if (0 == CREATIONS.getOpaque()) {
+            return null;
+        }
+        final CreationImpl creation = CREATION.get();
+        return null == creation ? null : creation.creator;
+    }
+    
+    /**
+     * @return the time of the last creation by the Promisor, not counting nested creations, or null if unknown
+     */
+    static Long getCreationNanos(Promisor<?> promisor) {
+        if (promisor instanceof Creator) {
+            final long nanos = ((Creator) promisor).getCreationNanos();
+            return nanos < 0 ? null : nanos;
+        }
+        return null;
+    }
+    
+    private DependencyRecorderImpl() {
+        throw new AssertionError("Illegal constructor");
+    }
+    
+    private static final class CreationImpl {
+        CreationImpl(Promisor<?> creator) {
+            this.creator = creator;
+        }
+        
+        private final Promisor<?> creator;
+        private final long startNanos = System.nanoTime();
+        private long nestedNanos;
+    }
+    
+    private static final ThreadLocal<CreationImpl> CREATION = new ThreadLocal<>();
+    private static final AtomicInteger CREATIONS = new AtomicInteger();
+}
@@ -3,9 +3,10 @@ package io.github.jonloucks.contracts.impl;
 import io.github.jonloucks.contracts.api.AutoOpen;
 import io.github.jonloucks.contracts.api.Promisor;
 
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static io.github.jonloucks.contracts.api.Checks.*;
 
@@ -14,17 +15,21 @@ import static io.github.jonloucks.contracts.api.Checks.*;
  * @see io.github.jonloucks.contracts.api.Promisors#createLifeCyclePromisor(Promisor)
  * @param <T> the type of deliverable
  */
-final class LifeCyclePromisorImpl<T> implements Promisor<T> {
+final class LifeCyclePromisorImpl<T> implements Promisor<T>, PublishedImpl.Publisher<T>, DependencyRecorderImpl.Creator {
     
     @Override
     public T demand() {
-        synchronized (simpleLock) {
-            final AtomicReference<T> currentDeliverable = new AtomicReference<>();
-            if (getCurrentDeliverable(currentDeliverable)) {
-                return currentDeliverable.get();
-            }
-            return createDeliverableIfNeeded();
+        // a single volatile read once the deliverable is published, no monitor and no allocation
+        final PublishedImpl<T> current = published;
+        if (null != current) {
+            return current.get();
         }
+        return demandWithLock();
+    }
+    
+    @Override
+    public PublishedImpl<T> getPublished() {
+        return published;
     }
     
     @Override
@@ -47,20 +52,35 @@ final class LifeCyclePromisorImpl<T> implements Promisor<T> {
         return currentUsage;
     }
     
+    @Override
+    public void setCreationNanos(long nanos) {
+        creationNanos = nanos;
+    }
+    
+    @Override
+    public long getCreationNanos() {
+        return creationNanos;
+    }
+    
     LifeCyclePromisorImpl(Promisor<T> referentPromisor) {
         this.referentPromisor = promisorCheck(referentPromisor);
     }
     
-    private boolean getCurrentDeliverable(AtomicReference<T> placeholder) {
-        if (usageCounter.get() == 0) {
-            throw new IllegalStateException("Usage count is zero.");
-        }
-        maybeRethrowOpenException();
-        if (isDeliverableAcquired.get()) {
-            placeholder.set(atomicDeliverable.get());
-            return true;
+    private T demandWithLock() {
+        // a lock instead of a monitor, a virtual thread waiting for a slow creation parks instead of pinning its carrier
+        creationLock.lock();
+        try {
+            if (usageCounter.get() == 0) {
+                throw new IllegalStateException("Usage count is zero.");
+            }
+            maybeRethrowOpenException();
+            if (isDeliverableAcquired) {
+                return acquiredDeliverable;
+            }
+            return createDeliverable();
+        } finally {
+            creationLock.unlock();
         }
-        return false;
     }
     
     private void maybeRethrowOpenException() {
@@ -72,23 +92,15 @@ final class LifeCyclePromisorImpl<T> implements Promisor<T> {
             throw (RuntimeException) thrown;
         }
     }
- 
-    private T createDeliverableIfNeeded() {
-        synchronized (simpleLock) {
-            if (isDeliverableAcquired.get()) {
-                return atomicDeliverable.get();
-            } else {
-                return createDeliverable();
-            }
-        }
-    }
     
     private T createDeliverable() {
         openException.set(null);
-        final T currentDeliverable = referentPromisor.demand();
-        atomicDeliverable.set(currentDeliverable);
-        isDeliverableAcquired.set(true);
+        final T currentDeliverable = DependencyRecorderImpl.create(this, referentPromisor::demand);
+        acquiredDeliverable = currentDeliverable;
+        isDeliverableAcquired = true;
         openDeliverable(currentDeliverable);
+        // published only when open, a failed open keeps every demand on the locked path
+        published = new PublishedImpl<>(currentDeliverable);
         return currentDeliverable;
     }
     
@@ -98,29 +110,36 @@ final class LifeCyclePromisorImpl<T> implements Promisor<T> {
                 closeDeliverable.set(((AutoOpen) deliverable).open());
             } catch (RuntimeException | Error thrown) {
                 openException.set(thrown);
-                isDeliverableAcquired.set(false);
+                isDeliverableAcquired = false;
                 throw thrown;
             }
         }
     }
     
     private void closeDeliverable() {
-        if (isDeliverableAcquired.get()) {
-            final T deliverable = atomicDeliverable.get();
-            try {
-                closeDeliverable.close();
-            } finally {
-                atomicDeliverable.compareAndSet(deliverable, null);
-                isDeliverableAcquired.set(false);
+        creationLock.lock();
+        try {
+            if (isDeliverableAcquired) {
+                published = null;
+                try {
+                    closeDeliverable.close();
+                } finally {
+                    acquiredDeliverable = null;
+                    isDeliverableAcquired = false;
+                }
             }
+        } finally {
+            creationLock.unlock();
         }
     }
     
     private final AtomicInteger usageCounter = new AtomicInteger();
     private final Promisor<T> referentPromisor;
-    private final AtomicBoolean isDeliverableAcquired = new AtomicBoolean();
-    private final AtomicReference<T> atomicDeliverable = new AtomicReference<>();
+    private volatile PublishedImpl<T> published;
+    private boolean isDeliverableAcquired;
+    private T acquiredDeliverable;
     private final AtomicReference<Throwable> openException = new AtomicReference<>();
     private final CloserImpl closeDeliverable = new CloserImpl();
-    private final Object simpleLock = new Object();
+    private final Lock creationLock = new ReentrantLock();
+    private volatile long creationNanos = -1;
 }
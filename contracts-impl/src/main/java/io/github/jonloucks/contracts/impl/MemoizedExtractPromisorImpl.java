@@ -0,0 +1,71 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.Promisor;
+
+import java.lang.ref.WeakReference;
+import java.util.function.Function;
+
+import static io.github.jonloucks.contracts.api.Checks.*;
+
+/**
+ * Implementation for {@link io.github.jonloucks.contracts.api.Promisors#createMemoizedExtractPromisor(Promisor, Function)}
+ * <p>
+ * The source is held weakly, a memoized result does not keep a closed or replaced source deliverable alive.
+ * Concurrent demands after a source change may each extract, the last one to finish is kept.
+ * </p>
+ * @see io.github.jonloucks.contracts.api.Promisors#createMemoizedExtractPromisor(Promisor, Function)
+ * @param <T> the input deliverable type
+ * @param <R> the output deliverable type
+ */
+final class MemoizedExtractPromisorImpl<T, R> implements Promisor<R> {
+    @Override
+    public R demand() {
+        final T source = referent.demand();
+        final MemoImpl<T, R> current = memo;
+        if (null != current && current.isFrom(source)) {
+            return current.extracted;
+        }
+        final R extracted = transform.apply(source);
+        memo = new MemoImpl<>(source, extracted);
+        return extracted;
+    }
+    
+    @Override
+    public int incrementUsage() {
+        return referent.incrementUsage();
+    }
+    
+    @Override
+    public int decrementUsage() {
+        return referent.decrementUsage();
+    }
+   
+    MemoizedExtractPromisorImpl(Promisor<T> referent, Function<T, R> transform) {
+        this.referent = promisorCheck(referent);
+        this.transform = nullCheck(transform, "Transform must be present.");
+    }
+    
+    /**
+     * An extracted value and the source deliverable it was extracted from
+     */
+    private static final class MemoImpl<T, R> {
+        
+        MemoImpl(T source, R extracted) {
+            this.source = new WeakReference<>(source);
+            this.isNullSource = null == source;
+            this.extracted = extracted;
+        }
+        
+        boolean isFrom(T candidate) {
+            return null == candidate ? isNullSource : candidate == source.get();
+        }
+        
+        private final WeakReference<T> source;
+        private final boolean isNullSource;
+        private final R extracted;
+    }
+    
+    private final Promisor<T> referent;
+    private final Function<T, R> transform;
+    private volatile MemoImpl<T, R> memo;
+}
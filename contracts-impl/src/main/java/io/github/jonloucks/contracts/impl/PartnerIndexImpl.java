@@ -0,0 +1,170 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.Contract;
+import io.github.jonloucks.contracts.api.Contracts;
+import io.github.jonloucks.contracts.api.Promisor;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves contracts from the partners of a Contracts.
+ * <p>
+ * The partner graph is flattened once, depth first in declaration order, and each partner is kept once.
+ * So a diamond shaped graph is searched once per partner and not once per path.
+ * The owning partner of each contract is remembered, indexed by contract id modulo the capacity, until a partner
+ * changes a binding. The capacity is bounded, a contract colliding with another replaces it and is searched again.
+ * Partners that are not a ContractsImpl can not report changes, when present nothing is remembered.
+ * </p>
+ */
+final class PartnerIndexImpl {
+    
+    PartnerIndexImpl(Contracts[] partners) {
+        final Set<Contracts> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<Contracts> flattened = new ArrayList<>();
+        for (Contracts partner : partners) {
+            flatten(partner, visited, flattened);
+        }
+        this.nodes = flattened.toArray(new Contracts[0]);
+        this.cacheable = flattened.stream().allMatch(node -> node instanceof ContractsImpl);
+        if (cacheable) {
+            for (Contracts node : nodes) {
+                ((ContractsImpl) node).addDependent(this);
+            }
+        }
+    }
+    
+    /**
+     * @return the Promisor from the first partner that is bound or null if none is
+     */
+    Promisor<?> findPromisor(Contract<?> contract) {
+        if (0 == nodes.length) {
+            return null;
+        }
+        if (!cacheable) {
+            return searchPromisor(contract);
+        }
+        // the generation is read before searching, any change during the search invalidates the result
+        final long currentGeneration = generation.get();
+        final OwnerImpl owner = getOwner(contract);
+        
+        if (null != owner && owner.generation == currentGeneration) {
+            if (owner.nodeIndex < 0) {
+                return null;
+            }
+            final BindingImpl<?> binding = ((ContractsImpl) nodes[owner.nodeIndex]).findBinding(contract);
+            if (null != binding) {
+                return binding.getPromisor();
+            }
+        }
+        return searchAndRemember(contract, currentGeneration);
+    }
+    
+    /**
+     * Called by a partner after any of its bindings have changed
+     */
+    void invalidate() {
+        generation.incrementAndGet();
+    }
+    
+    private static void flatten(Contracts partner, Set<Contracts> visited, List<Contracts> flattened) {
+        if (!visited.add(partner)) {
+            return;
+        }
+        flattened.add(partner);
+        if (partner instanceof ContractsImpl) {
+            for (Contracts nested : ((ContractsImpl) partner).getPartners()) {
+                flatten(nested, visited, flattened);
+            }
+        }
+    }
+    
+    private Promisor<?> searchAndRemember(Contract<?> contract, long currentGeneration) {
+        for (int nodeIndex = 0; nodeIndex < nodes.length; nodeIndex++) {
+            final BindingImpl<?> binding = ((ContractsImpl) nodes[nodeIndex]).findBinding(contract);
+            if (null != binding) {
+                setOwner(new OwnerImpl(contract, currentGeneration, nodeIndex));
+                return binding.getPromisor();
+            }
+        }
+        setOwner(new OwnerImpl(contract, currentGeneration, -1));
+        return null;
+    }
+    
+    private Promisor<?> searchPromisor(Contract<?> contract) {
+        for (Contracts node : nodes) {
+            final Promisor<?> promisor = findLocalPromisor(node, contract);
+            if (null != promisor) {
+                return promisor;
+            }
+        }
+        return null;
+    }
+    
+    private static <T> Promisor<?> findLocalPromisor(Contracts node, Contract<T> contract) {
+        if (node instanceof ContractsImpl) {
+            final BindingImpl<?> binding = ((ContractsImpl) node).findBinding(contract);
+            return null == binding ? null : binding.getPromisor();
+        }
+        // other implementations can only be asked
+        if (node.isBound(contract)) {
+            return () -> node.claim(contract);
+        }
+        return null;
+    }
+    
+    private OwnerImpl getOwner(Contract<?> contract) {
+        final OwnerImpl[] currentOwners = owners;
+        final OwnerImpl owner = currentOwners[contract.getId() & (currentOwners.length - 1)];
+        return null != owner && owner.contract == contract ? owner : null;
+    }
+    
+    private void setOwner(OwnerImpl owner) {
+        // A lost update only costs another search, the generation guards against stale entries
+        OwnerImpl[] currentOwners = owners;
+        int index = owner.contract.getId() & (currentOwners.length - 1);
+        final OwnerImpl replaced = currentOwners[index];
+        if (null != replaced && replaced.contract != owner.contract && replaced.generation == owner.generation
+            && currentOwners.length < MAXIMUM_CAPACITY) {
+            // grown only when a current entry would be lost, stale entries are dropped
+            currentOwners = grow(currentOwners, owner.generation);
+            owners = currentOwners;
+            index = owner.contract.getId() & (currentOwners.length - 1);
+        }
+        currentOwners[index] = owner;
+    }
+    
+    private static OwnerImpl[] grow(OwnerImpl[] currentOwners, long currentGeneration) {
+        final OwnerImpl[] grownOwners = new OwnerImpl[currentOwners.length * 2];
+        final int mask = grownOwners.length - 1;
+        for (OwnerImpl owner : currentOwners) {
+            if (null != owner && owner.generation == currentGeneration) {
+                grownOwners[owner.contract.getId() & mask] = owner;
+            }
+        }
+        return grownOwners;
+    }
+    
+    /**
+     * Immutable, the partner owning a contract for a given generation
+     */
+    private static final class OwnerImpl {
+        OwnerImpl(Contract<?> contract, long generation, int nodeIndex) {
+            this.contract = contract;
+            this.generation = generation;
+            this.nodeIndex = nodeIndex;
+        }
+        
+        private final Contract<?> contract;
+        private final long generation;
+        private final int nodeIndex;
+    }
+    
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 4096;
+    
+    private final Contracts[] nodes;
+    private final boolean cacheable;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile OwnerImpl[] owners = new OwnerImpl[MINIMUM_CAPACITY];
+}
@@ -0,0 +1,214 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.AutoClose;
+import io.github.jonloucks.contracts.api.AutoOpen;
+import io.github.jonloucks.contracts.api.Lease;
+import io.github.jonloucks.contracts.api.Promisor;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static io.github.jonloucks.contracts.api.Checks.*;
+
+/**
+ * Implementation for {@link io.github.jonloucks.contracts.api.Promisors#createPoolPromisor(Promisor, int)}
+ * <p>
+ * Free deliverables are kept in slots taken and filled with compare and set, no locking.
+ * Each thread starts its search at its own slot, so threads rarely compete for the same slot.
+ * A pool with a maximum takes a permit for each lease, only such a pool shares a counter between threads.
+ * </p>
+ * @see io.github.jonloucks.contracts.api.Promisors#createPoolPromisor(Promisor, int)
+ * @param <T> the type of deliverable
+ */
+final class PoolPromisorImpl<T> implements Promisor<Lease<T>>, DependencyRecorderImpl.Creator {
+    
+    @Override
+    public Lease<T> demand() {
+        if (usageCounter.get() == 0) {
+            throw new IllegalStateException("Usage count is zero.");
+        }
+        acquireLease();
+        try {
+            final PooledImpl<T> pooled = takeFree();
+            
+            return new LeaseImpl(null == pooled ? createPooled() : pooled);
+        } catch (RuntimeException | Error thrown) {
+            releaseLease();
+            throw thrown;
+        }
+    }
+    
+    @Override
+    public int incrementUsage() {
+        final int currentUsage = usageCounter.incrementAndGet();
+        referentPromisor.incrementUsage();
+        return currentUsage;
+    }
+    
+    @Override
+    public int decrementUsage() {
+        final int currentUsage = usageCounter.decrementAndGet();
+        try {
+            if (currentUsage == 0) {
+                // deliverables still leased are closed when they are returned
+                generation.incrementAndGet();
+                closeFree();
+            }
+        } finally {
+            referentPromisor.decrementUsage();
+        }
+        return currentUsage;
+    }
+    
+    @Override
+    public void setCreationNanos(long nanos) {
+        creationNanos = nanos;
+    }
+    
+    @Override
+    public long getCreationNanos() {
+        return creationNanos;
+    }
+    
+    PoolPromisorImpl(Promisor<T> referentPromisor, int capacity, int maximum) {
+        this.referentPromisor = promisorCheck(referentPromisor);
+        this.freeSlots = new AtomicReferenceArray<>(illegalCheck(capacity, capacity < 1, "Capacity must be at least 1."));
+        illegalCheck(maximum, maximum < capacity, "Maximum must be at least the capacity.");
+        // every deliverable in existence is leased or free, the free ones are bounded by the capacity
+        this.leases = Integer.MAX_VALUE == maximum ? null : new Semaphore(maximum);
+    }
+    
+    private void acquireLease() {
+        if (null != leases) {
+            try {
+                leases.acquire();
+            } catch (InterruptedException thrown) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a lease.", thrown);
+            }
+        }
+    }
+    
+    private void releaseLease() {
+        if (null != leases) {
+            leases.release();
+        }
+    }
+    
+    private PooledImpl<T> takeFree() {
+        final int length = freeSlots.length();
+        final int start = startSlot(length);
+        for (int i = 0; i < length; i++) {
+            final int slot = (start + i) % length;
+            final PooledImpl<T> pooled = freeSlots.get(slot);
+            if (null != pooled && freeSlots.compareAndSet(slot, pooled, null)) {
+                if (pooled.generation == generation.get()) {
+                    return pooled;
+                }
+                pooled.close();
+            }
+        }
+        return null;
+    }
+    
+    private void giveBack(PooledImpl<T> pooled) {
+        if (pooled.generation == generation.get()) {
+            final int length = freeSlots.length();
+            final int start = startSlot(length);
+            for (int i = 0; i < length; i++) {
+                final int slot = (start + i) % length;
+                if (freeSlots.compareAndSet(slot, null, pooled)) {
+                    // usage may have dropped to zero while returning, the pool was drained without this one
+                    if (pooled.generation != generation.get() && freeSlots.compareAndSet(slot, pooled, null)) {
+                        pooled.close();
+                    }
+                    return;
+                }
+            }
+        }
+        pooled.close();
+    }
+    
+    private PooledImpl<T> createPooled() {
+        final int currentGeneration = generation.get();
+        final T deliverable = DependencyRecorderImpl.create(this, referentPromisor::demand);
+        final AutoClose closeDeliverable = deliverable instanceof AutoOpen ? ((AutoOpen) deliverable).open() : AutoClose.NONE;
+        
+        return new PooledImpl<>(deliverable, closeDeliverable, currentGeneration);
+    }
+    
+    private void closeFree() {
+        for (int slot = 0; slot < freeSlots.length(); slot++) {
+            final PooledImpl<T> pooled = freeSlots.getAndSet(slot, null);
+            if (null != pooled) {
+                pooled.close();
+            }
+        }
+    }
+    
+    private static int startSlot(int length) {
+        return Math.floorMod(Long.hashCode(Thread.currentThread().getId()) * 0x9E3779B9, length);
+    }
+    
+    /**
+     * A deliverable created by the pool
+     */
+    private static final class PooledImpl<T> {
+        
+        PooledImpl(T deliverable, AutoClose closeDeliverable, int generation) {
+            this.deliverable = deliverable;
+            this.closeDeliverable = closeDeliverable;
+            this.generation = generation;
+        }
+        
+        void close() {
+            closeDeliverable.close();
+        }
+        
+        private final T deliverable;
+        private final AutoClose closeDeliverable;
+        private final int generation;
+    }
+    
+    /**
+     * Exclusive use of one pooled deliverable
+     */
+    private final class LeaseImpl implements Lease<T> {
+        
+        @Override
+        public T get() {
+            if (isClosed.get()) {
+                throw new IllegalStateException("Lease is closed.");
+            }
+            return pooled.deliverable;
+        }
+        
+        @Override
+        public void close() {
+            if (isClosed.compareAndSet(false, true)) {
+                try {
+                    giveBack(pooled);
+                } finally {
+                    // released after the deliverable is free, a waiting demand finds it instead of creating one
+                    releaseLease();
+                }
+            }
+        }
+        
+        LeaseImpl(PooledImpl<T> pooled) {
+            this.pooled = pooled;
+        }
+        
+        private final PooledImpl<T> pooled;
+        private final AtomicBoolean isClosed = new AtomicBoolean();
+    }
+    
+    private final AtomicInteger usageCounter = new AtomicInteger();
+    private final AtomicInteger generation = new AtomicInteger();
+    private final Promisor<T> referentPromisor;
+    private final AtomicReferenceArray<PooledImpl<T>> freeSlots;
+    private final Semaphore leases;
+    private volatile long creationNanos = -1;
+}
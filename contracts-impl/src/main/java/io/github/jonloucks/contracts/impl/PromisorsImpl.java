@@ -1,8 +1,12 @@
 package io.github.jonloucks.contracts.impl;
 
+import io.github.jonloucks.contracts.api.AsyncPromisor;
+import io.github.jonloucks.contracts.api.Lease;
 import io.github.jonloucks.contracts.api.Promisors;
 import io.github.jonloucks.contracts.api.Promisor;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -13,7 +17,7 @@ final class PromisorsImpl implements Promisors {
     
     @Override
     public <T> Promisor<T> createValuePromisor(T deliverable) {
-        return () -> deliverable;
+        return new ValuePromisorImpl<>(deliverable);
     }
     
     @Override
@@ -26,11 +30,46 @@ final class PromisorsImpl implements Promisors {
         return new LifeCyclePromisorImpl<>(promisor);
     }
     
+    @Override
+    public <T> AsyncPromisor<T> createAsyncPromisor(Promisor<T> promisor, Executor executor) {
+        return new AsyncPromisorImpl<>(promisor, executor);
+    }
+    
+    @Override
+    public <T> Promisor<Lease<T>> createPoolPromisor(Promisor<T> promisor, int capacity) {
+        return new PoolPromisorImpl<>(promisor, capacity, Integer.MAX_VALUE);
+    }
+    
+    @Override
+    public <T> Promisor<Lease<T>> createPoolPromisor(Promisor<T> promisor, int capacity, int maximum) {
+        return new PoolPromisorImpl<>(promisor, capacity, maximum);
+    }
+    
+    @Override
+    public <T> Promisor<T> createThreadLocalPromisor(Promisor<T> promisor) {
+        return new ThreadLocalPromisorImpl<>(promisor);
+    }
+    
+    @Override
+    public <T> Promisor<T> createRefreshPromisor(Promisor<T> promisor, Duration timeToLive, Executor executor) {
+        return new RefreshPromisorImpl<>(promisor, timeToLive, executor);
+    }
+    
+    @Override
+    public <T> Promisor<T> createSoftPromisor(Promisor<T> promisor) {
+        return new SoftPromisorImpl<>(promisor);
+    }
+    
     @Override
     public <T, R> Promisor<R> createExtractPromisor(Promisor<T> promisor, Function<T, R> extractor) {
         return new ExtractPromisorImpl<>(promisor, extractor);
     }
     
+    @Override
+    public <T, R> Promisor<R> createMemoizedExtractPromisor(Promisor<T> promisor, Function<T, R> extractor) {
+        return new MemoizedExtractPromisorImpl<>(promisor, extractor);
+    }
+    
     PromisorsImpl() {
     
     }
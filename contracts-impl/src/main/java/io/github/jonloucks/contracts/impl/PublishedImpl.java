@@ -0,0 +1,51 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.Contract;
+
+/**
+ * A deliverable published by a value, singleton or life cycle promisor.
+ * Remembers the contract it passed the type check of, so claiming it again skips the check.
+ * A promisor publishes a new instance for each deliverable, a check never applies to another deliverable.
+ * @param <T> the type of deliverable
+ */
+final class PublishedImpl<T> {
+    
+    /**
+     * A promisor keeping its deliverable until it is closed
+     * @param <T> the type of deliverable
+     */
+    interface Publisher<T> {
+        
+        /**
+         * @return the published deliverable, or null when the deliverable still has to be demanded
+         */
+        PublishedImpl<T> getPublished();
+    }
+    
+    T get() {
+        return deliverable;
+    }
+    
+    /**
+     * @param contract the contract claiming the deliverable
+     * @return the deliverable, checked by the contract unless it has already passed its type check
+     */
+    T checked(Contract<T> contract) {
+        if (contract == checkedContract) {
+            return deliverable;
+        }
+        final T checked = contract.cast(deliverable);
+        // written once, a deliverable bound to other contracts as well keeps being checked for those
+        if (null == checkedContract && contract.isTypeCheckOnly()) {
+            checkedContract = contract;
+        }
+        return checked;
+    }
+    
+    PublishedImpl(T deliverable) {
+        this.deliverable = deliverable;
+    }
+    
+    private final T deliverable;
+    private volatile Contract<T> checkedContract;
+}
@@ -0,0 +1,131 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.Promisor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.github.jonloucks.contracts.api.Checks.*;
+
+/**
+ * Implementation for {@link io.github.jonloucks.contracts.api.Promisors#createRefreshPromisor(Promisor, Duration, Executor)}
+ * <p>
+ * A refresh starts once the deliverable has been cached for three quarters of the time to live.
+ * A failed refresh is tried again after the remaining quarter, the stale deliverable is served meanwhile.
+ * </p>
+ * @see io.github.jonloucks.contracts.api.Promisors#createRefreshPromisor(Promisor, Duration, Executor)
+ * @param <T> the type of deliverable
+ */
+final class RefreshPromisorImpl<T> implements Promisor<T>, DependencyRecorderImpl.Creator {
+    
+    @Override
+    public T demand() {
+        final CachedImpl<T> current = cached;
+        if (null == current) {
+            return createFirst();
+        }
+        if (System.nanoTime() - current.refreshAtNanos >= 0) {
+            startRefresh();
+        }
+        return current.deliverable;
+    }
+    
+    @Override
+    public int incrementUsage() {
+        return referentPromisor.incrementUsage();
+    }
+    
+    @Override
+    public int decrementUsage() {
+        return referentPromisor.decrementUsage();
+    }
+    
+    @Override
+    public void setCreationNanos(long nanos) {
+        creationNanos = nanos;
+    }
+    
+    @Override
+    public long getCreationNanos() {
+        return creationNanos;
+    }
+    
+    RefreshPromisorImpl(Promisor<T> referentPromisor, Duration timeToLive, Executor executor) {
+        this.referentPromisor = promisorCheck(referentPromisor);
+        final Duration validTimeToLive = nullCheck(timeToLive, "Time to live must be present.");
+        illegalCheck(validTimeToLive, validTimeToLive.isNegative() || validTimeToLive.isZero(), "Time to live must be positive.");
+        this.refreshAfterNanos = validTimeToLive.toNanos() / 4 * 3;
+        this.retryAfterNanos = Math.max(1, validTimeToLive.toNanos() - refreshAfterNanos);
+        this.executor = nullCheck(executor, "Executor must be present.");
+    }
+    
+    private T createFirst() {
+        // nothing to serve yet, concurrent first callers wait for the one creation
+        creationLock.lock();
+        try {
+            final CachedImpl<T> current = cached;
+            if (null != current) {
+                return current.deliverable;
+            }
+            final T deliverable = DependencyRecorderImpl.create(this, referentPromisor::demand);
+            cached = new CachedImpl<>(deliverable, System.nanoTime() + refreshAfterNanos);
+            return deliverable;
+        } finally {
+            creationLock.unlock();
+        }
+    }
+    
+    private void startRefresh() {
+        if (isRefreshing.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::refresh);
+            } catch (RuntimeException thrown) {
+                isRefreshing.set(false);
+                reportFailure(thrown);
+            }
+        }
+    }
+    
+    private void refresh() {
+        try {
+            final T deliverable = DependencyRecorderImpl.create(this, referentPromisor::demand);
+            cached = new CachedImpl<>(deliverable, System.nanoTime() + refreshAfterNanos);
+        } catch (Throwable thrown) {
+            // keep serving the stale deliverable
+            cached = new CachedImpl<>(cached.deliverable, System.nanoTime() + retryAfterNanos);
+            reportFailure(thrown);
+        } finally {
+            isRefreshing.set(false);
+        }
+    }
+    
+    private static void reportFailure(Throwable thrown) {
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, thrown);
+    }
+    
+    /**
+     * A cached deliverable and when to refresh it
+     */
+    private static final class CachedImpl<T> {
+        
+        CachedImpl(T deliverable, long refreshAtNanos) {
+            this.deliverable = deliverable;
+            this.refreshAtNanos = refreshAtNanos;
+        }
+        
+        private final T deliverable;
+        private final long refreshAtNanos;
+    }
+    
+    private final Promisor<T> referentPromisor;
+    private final long refreshAfterNanos;
+    private final long retryAfterNanos;
+    private final Executor executor;
+    private final ReentrantLock creationLock = new ReentrantLock();
+    private final AtomicBoolean isRefreshing = new AtomicBoolean();
+    private volatile CachedImpl<T> cached;
+    private volatile long creationNanos = -1;
+}
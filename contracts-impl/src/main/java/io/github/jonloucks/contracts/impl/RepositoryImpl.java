@@ -3,6 +3,7 @@ package io.github.jonloucks.contracts.impl;
 import io.github.jonloucks.contracts.api.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static io.github.jonloucks.contracts.api.Checks.*;
 
@@ -15,7 +16,7 @@ final class RepositoryImpl implements Repository {
     @Override
     public AutoClose open() {
         if (openState.transitionToOpen()) {
-            storedContracts.values().forEach(StorageImpl::bind);
+            bindStoredContracts();
             check();
             return this::close;
         }
@@ -47,6 +48,36 @@ final class RepositoryImpl implements Repository {
         };
     }
     
+    @Override
+    public CompletionStage<Void> warmUp() {
+        final int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism, RepositoryImpl::newWarmUpThread);
+        try {
+            return warmUp(executor).whenComplete((ignored, thrown) -> executor.shutdown());
+        } catch (RuntimeException | Error thrown) {
+            executor.shutdown();
+            throw thrown;
+        }
+    }
+    
+    @Override
+    public CompletionStage<Void> warmUp(Executor executor) {
+        final Executor validExecutor = nullCheck(executor, "Executor must be present.");
+        
+        if (!openState.isOpen()) {
+            throw new ContractException("The repository must be open to warm up.");
+        }
+        // no ordering is needed, a creation claiming a contract that is being created by another
+        // warm up waits on its creation lock, one not yet created is created by the nested claim
+        final List<CompletableFuture<Void>> warming = new ArrayList<>();
+        storedContracts.forEach((contract, storage) -> {
+            if (isWarmable(storage.promisor)) {
+                warming.add(CompletableFuture.runAsync(() -> contracts.claim(contract), validExecutor));
+            }
+        });
+        return CompletableFuture.allOf(warming.toArray(new CompletableFuture<?>[0]));
+    }
+    
     @Override
     public void check() {
         requiredContracts.forEach(contract -> {
@@ -63,10 +94,38 @@ final class RepositoryImpl implements Repository {
         requiredContracts.add(validContract);
     }
     
-    RepositoryImpl(Contracts contracts) {
+    RepositoryImpl(ContractsImpl contracts) {
         this.contracts = contracts;
     }
     
+    private void bindStoredContracts() {
+        // bound as a single Changeset, a claim never sees part of the repository
+        final List<StorageImpl<?>> storages = new ArrayList<>(storedContracts.values());
+        final Changeset changeset = Changeset.create();
+        storages.forEach(storage -> storage.addTo(changeset));
+        
+        final List<AutoClose> closeBindings = contracts.bindEach(changeset);
+        for (int i = 0; i < storages.size(); i++) {
+            storages.get(i).closeBinding.set(closeBindings.get(i));
+        }
+    }
+    
+    private static boolean isWarmable(Promisor<?> promisor) {
+        // promisors keeping their deliverable for later claims,
+        // a pool or thread local claimed by the warm up thread would not be seen by other claimers
+        return promisor instanceof LifeCyclePromisorImpl
+            || promisor instanceof SingletonPromisorImpl
+            || promisor instanceof RefreshPromisorImpl
+            || promisor instanceof SoftPromisorImpl
+            || promisor instanceof AsyncPromisorImpl;
+    }
+    
+    private static Thread newWarmUpThread(Runnable runnable) {
+        final Thread thread = new Thread(runnable, "contracts-warm-up");
+        thread.setDaemon(true);
+        return thread;
+    }
+    
     private void close() {
         if (openState.transitionToClosed()) {
             reverseCloseStorage();
@@ -99,6 +158,10 @@ final class RepositoryImpl implements Repository {
             this.bindStrategy = bindStrategy;
         }
     
+        private void addTo(Changeset changeset) {
+            changeset.bind(contract, promisor, bindStrategy);
+        }
+        
         private void bind() {
             close();
             closeBinding.set(contracts.bind(contract, promisor, bindStrategy));
@@ -116,7 +179,7 @@ final class RepositoryImpl implements Repository {
         private final CloserImpl closeBinding = new CloserImpl();
     }
     
-    private final Contracts contracts;
+    private final ContractsImpl contracts;
     private final IdempotentImpl openState = new IdempotentImpl();
     private final Set<Contract<?>> requiredContracts = new HashSet<>();
 }
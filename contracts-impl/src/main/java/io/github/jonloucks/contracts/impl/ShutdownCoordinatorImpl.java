@@ -0,0 +1,188 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.AutoClose;
+import io.github.jonloucks.contracts.api.Contracts;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * A single shutdown hook shared by every ContractsImpl using shutdown hooks.
+ * <p>
+ * Instances are tracked weakly, an instance is forgotten when it is closed or garbage collected.
+ * At shutdown the instances are closed in waves, an instance is closed after every instance
+ * that has it as a partner. Each wave is closed by a bounded number of threads and
+ * all the waves share one deadline.
+ * The parallelism and deadline are the largest configured by the instances being closed.
+ * </p>
+ */
+final class ShutdownCoordinatorImpl {
+    
+    static final ShutdownCoordinatorImpl INSTANCE = new ShutdownCoordinatorImpl(Runtime.getRuntime()::addShutdownHook);
+    
+    /**
+     * Create a coordinator, INSTANCE is the one used at shutdown
+     *
+     * @param installHook installs the shutdown hook, once on the first registration
+     */
+    ShutdownCoordinatorImpl(Consumer<Thread> installHook) {
+        this.installHook = installHook;
+    }
+    
+    /**
+     * Track a Contracts to be closed at shutdown
+     *
+     * @return used to stop tracking when the Contracts is closed
+     */
+    AutoClose register(ContractsImpl contracts) {
+        expungeCollected();
+        if (hookState.transitionToOpen()) {
+            installHook.accept(new Thread(this::shutdown, "contracts-shutdown"));
+        }
+        final RegistrationImpl registration = new RegistrationImpl(contracts, collected);
+        registrations.add(registration);
+        return () -> registrations.remove(registration);
+    }
+    
+    /**
+     * Close every tracked Contracts, dependents before their partners
+     */
+    void shutdown() {
+        final List<ContractsImpl> remaining = getTracked();
+        if (remaining.isEmpty()) {
+            return;
+        }
+        final Map<ContractsImpl, Integer> dependentCounts = countDependents(remaining);
+        final long deadline = System.nanoTime() + getTimeout(remaining).toNanos();
+        final ExecutorService executor = Executors.newFixedThreadPool(getParallelism(remaining), ShutdownCoordinatorImpl::newCloseThread);
+        
+        try {
+            while (!remaining.isEmpty()) {
+                final long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return;
+                }
+                final List<ContractsImpl> wave = nextWave(remaining, dependentCounts);
+                final List<Callable<Void>> closeTasks = new ArrayList<>(wave.size());
+                for (ContractsImpl contracts : wave) {
+                    closeTasks.add(() -> {
+                        closeQuietly(contracts);
+                        return null;
+                    });
+                }
+                executor.invokeAll(closeTasks, remainingNanos, TimeUnit.NANOSECONDS);
+                remaining.removeAll(wave);
+                releasePartners(wave, dependentCounts);
+            }
+        } catch (InterruptedException thrown) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private List<ContractsImpl> getTracked() {
+        final List<ContractsImpl> tracked = new ArrayList<>(registrations.size());
+        for (RegistrationImpl registration : registrations) {
+            final ContractsImpl contracts = registration.get();
+            if (null != contracts) {
+                tracked.add(contracts);
+            }
+        }
+        return tracked;
+    }
+    
+    private static Duration getTimeout(List<ContractsImpl> tracked) {
+        Duration timeout = tracked.get(0).getShutdownTimeout();
+        for (ContractsImpl contracts : tracked) {
+            if (contracts.getShutdownTimeout().compareTo(timeout) > 0) {
+                timeout = contracts.getShutdownTimeout();
+            }
+        }
+        return timeout;
+    }
+    
+    private static int getParallelism(List<ContractsImpl> tracked) {
+        int parallelism = 1;
+        for (ContractsImpl contracts : tracked) {
+            parallelism = Math.max(parallelism, contracts.getShutdownParallelism());
+        }
+        return parallelism;
+    }
+    
+    private static Map<ContractsImpl, Integer> countDependents(List<ContractsImpl> tracked) {
+        final Map<ContractsImpl, Integer> dependentCounts = new IdentityHashMap<>();
+        for (ContractsImpl contracts : tracked) {
+            dependentCounts.putIfAbsent(contracts, 0);
+        }
+        for (ContractsImpl contracts : tracked) {
+            for (Contracts partner : contracts.getPartners()) {
+                addDependents(dependentCounts, partner, 1);
+            }
+        }
+        return dependentCounts;
+    }
+    
+    private static List<ContractsImpl> nextWave(List<ContractsImpl> remaining, Map<ContractsImpl, Integer> dependentCounts) {
+        final List<ContractsImpl> wave = new ArrayList<>();
+        for (ContractsImpl contracts : remaining) {
+            if (dependentCounts.get(contracts) == 0) {
+                wave.add(contracts);
+            }
+        }
+        // partners depending on each other, there is no order so close them together
+        return wave.isEmpty() ? new ArrayList<>(remaining) : wave;
+    }
+    
+    private static void releasePartners(List<ContractsImpl> wave, Map<ContractsImpl, Integer> dependentCounts) {
+        for (ContractsImpl contracts : wave) {
+            dependentCounts.remove(contracts);
+            for (Contracts partner : contracts.getPartners()) {
+                addDependents(dependentCounts, partner, -1);
+            }
+        }
+    }
+    
+    private static void addDependents(Map<ContractsImpl, Integer> dependentCounts, Contracts partner, int delta) {
+        // partners that are not tracked do not take part in the ordering
+        if (partner instanceof ContractsImpl) {
+            dependentCounts.computeIfPresent((ContractsImpl) partner, (key, count) -> count + delta);
+        }
+    }
+    
+    private static void closeQuietly(ContractsImpl contracts) {
+        try {
+            contracts.close();
+        } catch (Throwable thrown) {
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, thrown);
+        }
+    }
+    
+    private static Thread newCloseThread(Runnable runnable) {
+        final Thread thread = new Thread(runnable, "contracts-shutdown-close");
+        thread.setDaemon(true);
+        return thread;
+    }
+    
+    private void expungeCollected() {
+        for (Object collectedReference = collected.poll(); null != collectedReference; collectedReference = collected.poll()) {
+            registrations.remove(collectedReference);
+        }
+    }
+    
+    private static final class RegistrationImpl extends WeakReference<ContractsImpl> {
+        RegistrationImpl(ContractsImpl contracts, ReferenceQueue<ContractsImpl> queue) {
+            super(contracts, queue);
+        }
+    }
+    
+    private final Consumer<Thread> installHook;
+    private final IdempotentImpl hookState = new IdempotentImpl();
+    private final Set<RegistrationImpl> registrations = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<ContractsImpl> collected = new ReferenceQueue<>();
+}
@@ -2,8 +2,7 @@ package io.github.jonloucks.contracts.impl;
 
 import io.github.jonloucks.contracts.api.Promisor;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static io.github.jonloucks.contracts.api.Checks.promisorCheck;
 
@@ -12,14 +11,21 @@ import static io.github.jonloucks.contracts.api.Checks.promisorCheck;
  * @see io.github.jonloucks.contracts.api.Promisors#createSingletonPromisor(Promisor)
  * @param <T> The type of deliverable
  */
-final class SingletonPromisorImpl<T> implements Promisor<T> {
+final class SingletonPromisorImpl<T> implements Promisor<T>, PublishedImpl.Publisher<T>, DependencyRecorderImpl.Creator {
     
     @Override
     public T demand() {
-        if (firstTime.compareAndSet(true, false)) {
-            singletonRef.set(referent.demand());
+        // a single volatile read once the deliverable is published
+        final PublishedImpl<T> current = published;
+        if (null != current) {
+            return current.get();
         }
-        return singletonRef.get();
+        return createDeliverableIfNeeded();
+    }
+    
+    @Override
+    public PublishedImpl<T> getPublished() {
+        return published;
     }
     
     @Override
@@ -32,11 +38,41 @@ final class SingletonPromisorImpl<T> implements Promisor<T> {
         return referent.decrementUsage();
     }
 
+    @Override
+    public void setCreationNanos(long nanos) {
+        creationNanos = nanos;
+    }
+    
+    @Override
+    public long getCreationNanos() {
+        return creationNanos;
+    }
+    
     SingletonPromisorImpl(Promisor<T> referent) {
         this.referent = promisorCheck(referent);
     }
     
+    private T createDeliverableIfNeeded() {
+        // concurrent first callers wait for the one creation, a failed creation is tried again by the next caller
+        if (creationLock.isHeldByCurrentThread()) {
+            throw new IllegalStateException("Singleton demanded while creating itself.");
+        }
+        creationLock.lock();
+        try {
+            final PublishedImpl<T> current = published;
+            if (null != current) {
+                return current.get();
+            }
+            final T deliverable = DependencyRecorderImpl.create(this, referent::demand);
+            published = new PublishedImpl<>(deliverable);
+            return deliverable;
+        } finally {
+            creationLock.unlock();
+        }
+    }
+    
     private final Promisor<T> referent;
-    private final AtomicReference<T> singletonRef = new AtomicReference<>();
-    private final AtomicBoolean firstTime = new AtomicBoolean(true);
+    private final ReentrantLock creationLock = new ReentrantLock();
+    private volatile PublishedImpl<T> published;
+    private volatile long creationNanos = -1;
 }
@@ -0,0 +1,127 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.AutoClose;
+import io.github.jonloucks.contracts.api.AutoOpen;
+import io.github.jonloucks.contracts.api.Promisor;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.SoftReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.github.jonloucks.contracts.api.Checks.promisorCheck;
+
+/**
+ * Implementation for {@link io.github.jonloucks.contracts.api.Promisors#createSoftPromisor(Promisor)}
+ * @see io.github.jonloucks.contracts.api.Promisors#createSoftPromisor(Promisor)
+ * @param <T> the type of deliverable
+ */
+final class SoftPromisorImpl<T> implements Promisor<T>, DependencyRecorderImpl.Creator {
+    
+    @Override
+    public T demand() {
+        final SoftReference<Object> current = softDeliverable;
+        if (null != current) {
+            final Object held = current.get();
+            if (null != held) {
+                return unmask(held);
+            }
+        }
+        return createDeliverableIfNeeded();
+    }
+    
+    @Override
+    public int incrementUsage() {
+        final int currentUsage = usageCounter.incrementAndGet();
+        referentPromisor.incrementUsage();
+        return currentUsage;
+    }
+    
+    @Override
+    public int decrementUsage() {
+        final int currentUsage = usageCounter.decrementAndGet();
+        try {
+            if (currentUsage == 0) {
+                closeDeliverable();
+            }
+        } finally {
+            referentPromisor.decrementUsage();
+        }
+        return currentUsage;
+    }
+    
+    @Override
+    public void setCreationNanos(long nanos) {
+        creationNanos = nanos;
+    }
+    
+    @Override
+    public long getCreationNanos() {
+        return creationNanos;
+    }
+    
+    SoftPromisorImpl(Promisor<T> referentPromisor) {
+        this.referentPromisor = promisorCheck(referentPromisor);
+    }
+    
+    private T createDeliverableIfNeeded() {
+        creationLock.lock();
+        try {
+            if (usageCounter.get() == 0) {
+                throw new IllegalStateException("Usage count is zero.");
+            }
+            final SoftReference<Object> current = softDeliverable;
+            final Object held = null == current ? null : current.get();
+            if (null != held) {
+                return unmask(held);
+            }
+            return createDeliverable();
+        } finally {
+            creationLock.unlock();
+        }
+    }
+    
+    private T createDeliverable() {
+        final T deliverable = DependencyRecorderImpl.create(this, referentPromisor::demand);
+        if (deliverable instanceof AutoOpen) {
+            final AutoClose closeDeliverable = ((AutoOpen) deliverable).open();
+            if (closeDeliverable == deliverable) {
+                // held by the cleaner, the deliverable could never be reclaimed
+                closeDeliverable.close();
+                throw new IllegalStateException("Soft deliverable must not be its own AutoClose.");
+            }
+            // the previous deliverable was collected, its cleanup already ran or is queued
+            cleanable = CLEANER.register(deliverable, closeDeliverable::close);
+        }
+        softDeliverable = new SoftReference<>(null == deliverable ? NULL_DELIVERABLE : deliverable);
+        return deliverable;
+    }
+    
+    private void closeDeliverable() {
+        creationLock.lock();
+        try {
+            softDeliverable = null;
+            if (null != cleanable) {
+                cleanable.clean();
+                cleanable = null;
+            }
+        } finally {
+            creationLock.unlock();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private T unmask(Object held) {
+        return held == NULL_DELIVERABLE ? null : (T) held;
+    }
+    
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final Object NULL_DELIVERABLE = new Object();
+    
+    private final AtomicInteger usageCounter = new AtomicInteger();
+    private final Promisor<T> referentPromisor;
+    private final ReentrantLock creationLock = new ReentrantLock();
+    private volatile SoftReference<Object> softDeliverable;
+    private Cleaner.Cleanable cleanable;
+    private volatile long creationNanos = -1;
+}
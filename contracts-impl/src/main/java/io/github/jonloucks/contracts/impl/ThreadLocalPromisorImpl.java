@@ -0,0 +1,135 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.AutoClose;
+import io.github.jonloucks.contracts.api.AutoOpen;
+import io.github.jonloucks.contracts.api.Promisor;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.jonloucks.contracts.api.Checks.promisorCheck;
+
+/**
+ * Implementation for {@link io.github.jonloucks.contracts.api.Promisors#createThreadLocalPromisor(Promisor)}
+ * <p>
+ * Every deliverable is tracked until it is closed, either when usage drops to zero
+ * or after the thread it belongs to is garbage collected.
+ * </p>
+ * @see io.github.jonloucks.contracts.api.Promisors#createThreadLocalPromisor(Promisor)
+ * @param <T> the type of deliverable
+ */
+final class ThreadLocalPromisorImpl<T> implements Promisor<T>, DependencyRecorderImpl.Creator {
+    
+    @Override
+    public T demand() {
+        // no locking and no allocation once this thread has its deliverable
+        final PerThreadImpl<T> current = perThread.get();
+        if (null != current && current.generation == generation.get()) {
+            return current.deliverable;
+        }
+        return createForThread();
+    }
+    
+    @Override
+    public int incrementUsage() {
+        final int currentUsage = usageCounter.incrementAndGet();
+        referentPromisor.incrementUsage();
+        return currentUsage;
+    }
+    
+    @Override
+    public int decrementUsage() {
+        final int currentUsage = usageCounter.decrementAndGet();
+        try {
+            if (currentUsage == 0) {
+                // deliverables held by other threads are created again if usage resumes
+                generation.incrementAndGet();
+                closeAll();
+            }
+        } finally {
+            referentPromisor.decrementUsage();
+        }
+        return currentUsage;
+    }
+    
+    @Override
+    public void setCreationNanos(long nanos) {
+        creationNanos = nanos;
+    }
+    
+    @Override
+    public long getCreationNanos() {
+        return creationNanos;
+    }
+    
+    ThreadLocalPromisorImpl(Promisor<T> referentPromisor) {
+        this.referentPromisor = promisorCheck(referentPromisor);
+    }
+    
+    private T createForThread() {
+        if (usageCounter.get() == 0) {
+            throw new IllegalStateException("Usage count is zero.");
+        }
+        closeAbandoned();
+        final int currentGeneration = generation.get();
+        final T deliverable = DependencyRecorderImpl.create(this, referentPromisor::demand);
+        final AutoClose closeDeliverable = deliverable instanceof AutoOpen ? ((AutoOpen) deliverable).open() : AutoClose.NONE;
+        final PerThreadImpl<T> created = new PerThreadImpl<>(deliverable, closeDeliverable, currentGeneration, abandoned);
+        
+        tracked.add(created);
+        if (currentGeneration != generation.get()) {
+            // usage dropped to zero while creating
+            close(created);
+            throw new IllegalStateException("Usage count is zero.");
+        }
+        close(perThread.get());
+        perThread.set(created);
+        return deliverable;
+    }
+    
+    private void closeAbandoned() {
+        for (Object reference = abandoned.poll(); null != reference; reference = abandoned.poll()) {
+            close((PerThreadImpl<?>) reference);
+        }
+    }
+    
+    private void closeAll() {
+        for (PerThreadImpl<T> each : tracked) {
+            close(each);
+        }
+    }
+    
+    private void close(PerThreadImpl<?> perThreadImpl) {
+        if (null != perThreadImpl && tracked.remove(perThreadImpl)) {
+            perThreadImpl.closeDeliverable.close();
+        }
+    }
+    
+    /**
+     * The deliverable of one thread, enqueued once the thread is garbage collected
+     */
+    private static final class PerThreadImpl<T> extends WeakReference<Thread> {
+        
+        PerThreadImpl(T deliverable, AutoClose closeDeliverable, int generation, ReferenceQueue<Thread> abandoned) {
+            super(Thread.currentThread(), abandoned);
+            this.deliverable = deliverable;
+            this.closeDeliverable = closeDeliverable;
+            this.generation = generation;
+        }
+        
+        private final T deliverable;
+        private final AutoClose closeDeliverable;
+        private final int generation;
+    }
+    
+    private final AtomicInteger usageCounter = new AtomicInteger();
+    private final AtomicInteger generation = new AtomicInteger();
+    private final Promisor<T> referentPromisor;
+    private final ThreadLocal<PerThreadImpl<T>> perThread = new ThreadLocal<>();
+    private final Set<PerThreadImpl<T>> tracked = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<Thread> abandoned = new ReferenceQueue<>();
+    private volatile long creationNanos = -1;
+}
@@ -0,0 +1,27 @@
+package io.github.jonloucks.contracts.impl;
+
+import io.github.jonloucks.contracts.api.Promisor;
+
+/**
+ * Implementation for {@link io.github.jonloucks.contracts.api.Promisors#createValuePromisor(Object)}
+ * @see io.github.jonloucks.contracts.api.Promisors#createValuePromisor(Object)
+ * @param <T> the type of deliverable
+ */
+final class ValuePromisorImpl<T> implements Promisor<T>, PublishedImpl.Publisher<T> {
+    
+    @Override
+    public T demand() {
+        return published.get();
+    }
+    
+    @Override
+    public PublishedImpl<T> getPublished() {
+        return published;
+    }
+    
+    ValuePromisorImpl(T deliverable) {
+        this.published = new PublishedImpl<>(deliverable);
+    }
+    
+    private final PublishedImpl<T> published;
+}
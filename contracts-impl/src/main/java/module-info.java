@@ -4,7 +4,7 @@
 module io.github.jonloucks.contracts.impl {
     requires transitive io.github.jonloucks.contracts.api;
     
-    opens io.github.jonloucks.contracts.impl to io.github.jonloucks.contracts.api;
+    opens io.github.jonloucks.contracts.impl to io.github.jonloucks.contracts.api, io.github.jonloucks.contracts.impl.test;
     
     provides io.github.jonloucks.contracts.api.ContractsFactory with io.github.jonloucks.contracts.impl.ContractsFactoryImpl;
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package io.github.jonloucks.contracts.impl.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the dependencies kept by a Contracts, read from its private state.
+ */
+public class DependenciesTests {
+
+    @Test
+    public void dependencies_ScopePromisorClaimingFromParent_IsNotKeptByParent() {
+        final Contracts parent = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+        final Contract<String> shared = Contract.create("shared");
+
+        try (AutoClose closeParent = parent.open();
+             AutoClose closeShared = parent.bind(shared, () -> "shared")) {
+            assertNotNull(closeParent);
+            assertNotNull(closeShared);
+            final int parentEntries = dependenciesOf(parent).size();
+
+            for (int i = 0; i < 100; i++) {
+                claimFromScope(parent, shared);
+            }
+
+            assertEquals(parentEntries, dependenciesOf(parent).size(), "Parent should not keep scope promisors.");
+        }
+    }
+
+    private static void claimFromScope(Contracts parent, Contract<String> shared) {
+        final Contract<String> local = Contract.create("local");
+        final Promisors promisors = parent.claim(Promisors.CONTRACT);
+        final Contracts.Scope scope = parent.openScope();
+        final Promisor<String> promisor = promisors.createLifeCyclePromisor(() -> parent.claim(shared) + "+local");
+
+        try (Contracts.Scope closeScope = scope;
+             AutoClose closeLocal = scope.bind(local, promisor)) {
+            assertNotNull(closeScope);
+            assertNotNull(closeLocal);
+            assertEquals("shared+local", scope.claim(local));
+            assertFalse(dependenciesOf(parent).containsKey(promisor), "Parent should not record the scope promisor.");
+        }
+    }
+
+    private static Map<?, ?> dependenciesOf(Contracts contracts) {
+        return (Map<?, ?>) fieldValue(fieldValue(contracts, "dependencies"), "dependencies");
+    }
+
+    private static Object fieldValue(Object instance, String name) {
+        return assertDoesNotThrow(() -> {
+            final Field field = instance.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(instance);
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.jonloucks.contracts.impl.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the owners remembered by the partner index of a Contracts, read from its private state.
+ */
+public class PartnerIndexTests {
+
+    @Test
+    public void partnerIndex_ManySparseContracts_StaysBoundedAndCorrect() {
+        final Contracts partner = newContracts(Collections.emptyList());
+        final Contracts contracts = newContracts(Collections.singletonList(partner));
+        final List<Contract<Integer>> bound = new ArrayList<>();
+
+        try (AutoClose closePartner = partner.open();
+             AutoClose closeContracts = contracts.open()) {
+            assertNotNull(closePartner);
+            assertNotNull(closeContracts);
+            for (int i = 0; i < 10_000; i++) {
+                final Contract<Integer> contract = Contract.create("sparse-" + i);
+                final int value = i;
+                // every tenth contract is bound, the others only raise the ids
+                if (i % 10 == 0) {
+                    bound.add(contract);
+                    partner.bind(contract, () -> value);
+                }
+            }
+            final Contract<Integer> unbound = Contract.create("unbound");
+
+            for (int pass = 0; pass < 2; pass++) {
+                for (Contract<Integer> contract : bound) {
+                    assertEquals(contract.getName(), "sparse-" + contracts.claim(contract));
+                }
+                assertFalse(contracts.isBound(unbound));
+            }
+
+            assertTrue(ownersOf(contracts).length <= 4096, "Remembered owners should be bounded.");
+        }
+    }
+
+    private static Object[] ownersOf(Contracts contracts) {
+        return (Object[]) fieldValue(fieldValue(contracts, "partnerIndex"), "owners");
+    }
+
+    private static Contracts newContracts(List<Contracts> partners) {
+        return GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public List<Contracts> getPartners() {
+                return partners;
+            }
+
+            @Override
+            public boolean useShutdownHooks() {
+                return false;
+            }
+        });
+    }
+
+    private static Object fieldValue(Object instance, String name) {
+        return assertDoesNotThrow(() -> {
+            final Field field = instance.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(instance);
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.jonloucks.contracts.impl.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives isolated shutdown coordinators, the hook they install is run by the test instead of the Runtime.
+ */
+public class ShutdownCoordinatorTests {
+
+    @Test
+    public void shutdownCoordinator_ManyInstances_InstallsOneHook() {
+        final List<Thread> hooks = new ArrayList<>();
+        final Object coordinator = newCoordinator(hooks::add);
+
+        for (int i = 0; i < 10; i++) {
+            newContracts(coordinator, Collections.emptyList(), Duration.ofSeconds(10));
+        }
+
+        assertEquals(1, hooks.size(), "One hook should have been installed.");
+    }
+
+    @Test
+    public void shutdownCoordinator_Shutdown_ClosesDependentsBeforePartners() {
+        final List<Thread> hooks = new ArrayList<>();
+        final Object coordinator = newCoordinator(hooks::add);
+        final List<String> closed = Collections.synchronizedList(new ArrayList<>());
+
+        final Contracts root = newContracts(coordinator, Collections.emptyList(), Duration.ofSeconds(10));
+        final Contracts middle = newContracts(coordinator, Collections.singletonList(root), Duration.ofSeconds(10));
+        final Contracts leaf = newContracts(coordinator, Collections.singletonList(middle), Duration.ofSeconds(10));
+        openWithDeliverable(leaf, () -> closed.add("leaf"));
+        openWithDeliverable(root, () -> closed.add("root"));
+        openWithDeliverable(middle, () -> closed.add("middle"));
+
+        hooks.get(0).run();
+
+        assertEquals(asList("leaf", "middle", "root"), closed);
+    }
+
+    @Test
+    public void shutdownCoordinator_Collected_IsNotClosed() throws InterruptedException {
+        final List<Thread> hooks = new ArrayList<>();
+        final Object coordinator = newCoordinator(hooks::add);
+        final List<String> closed = Collections.synchronizedList(new ArrayList<>());
+
+        final WeakReference<Contracts> collected = openAndForget(coordinator, () -> closed.add("collected"));
+        final Contracts kept = newContracts(coordinator, Collections.emptyList(), Duration.ofSeconds(10));
+        openWithDeliverable(kept, () -> closed.add("kept"));
+        for (int i = 0; i < 100 && null != collected.get(); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(collected.get(), "Contracts should have been collected.");
+        hooks.get(0).run();
+        assertEquals(Collections.singletonList("kept"), closed);
+    }
+
+    @Test
+    public void shutdownCoordinator_Shutdown_HonorsDeadline() {
+        final List<Thread> hooks = new ArrayList<>();
+        final Object coordinator = newCoordinator(hooks::add);
+        final List<String> closed = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch neverReleased = new CountDownLatch(1);
+
+        final Contracts partner = newContracts(coordinator, Collections.emptyList(), Duration.ofMillis(200));
+        final Contracts blocking = newContracts(coordinator, Collections.singletonList(partner), Duration.ofMillis(200));
+        openWithDeliverable(partner, () -> closed.add("partner"));
+        openWithDeliverable(blocking, () -> {
+            try {
+                neverReleased.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException thrown) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        final long start = System.nanoTime();
+        hooks.get(0).run();
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 5_000, "Shutdown should have stopped at the deadline, took " + elapsedMillis + "ms.");
+        assertTrue(closed.isEmpty(), "Partner should not be closed after the deadline.");
+    }
+
+    private static WeakReference<Contracts> openAndForget(Object coordinator, Runnable onClose) {
+        final Contracts contracts = newContracts(coordinator, Collections.emptyList(), Duration.ofSeconds(10));
+        openWithDeliverable(contracts, onClose);
+        return new WeakReference<>(contracts);
+    }
+
+    private static void openWithDeliverable(Contracts contracts, Runnable onClose) {
+        final Contract<AutoOpen> contract = Contract.create(AutoOpen.class);
+        //noinspection resource
+        contracts.open();
+        //noinspection resource
+        contracts.bind(contract, contracts.claim(Promisors.CONTRACT).createLifeCyclePromisor(() -> () -> onClose::run));
+        contracts.claim(contract);
+    }
+
+    private static Object newCoordinator(Consumer<Thread> installHook) {
+        return newInstance("io.github.jonloucks.contracts.impl.ShutdownCoordinatorImpl", new Class<?>[]{Consumer.class}, installHook);
+    }
+
+    private static Contracts newContracts(Object coordinator, List<Contracts> partners, Duration shutdownTimeout) {
+        final Contracts.Config config = new Contracts.Config() {
+            @Override
+            public List<Contracts> getPartners() {
+                return partners;
+            }
+
+            @Override
+            public Duration shutdownTimeout() {
+                return shutdownTimeout;
+            }
+        };
+        return (Contracts) newInstance("io.github.jonloucks.contracts.impl.ContractsImpl",
+            new Class<?>[]{Contracts.Config.class, coordinator.getClass()}, config, coordinator);
+    }
+
+    private static Object newInstance(String className, Class<?>[] parameterTypes, Object... arguments) {
+        return assertDoesNotThrow(() -> {
+            final Constructor<?> constructor = Class.forName(className).getDeclaredConstructor(parameterTypes);
+            constructor.setAccessible(true);
+            return constructor.newInstance(arguments);
+        });
+    }
+}
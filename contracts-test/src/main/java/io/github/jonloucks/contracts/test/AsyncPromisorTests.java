@@ -0,0 +1,187 @@
+package io.github.jonloucks.contracts.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.jonloucks.contracts.test.Tools.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface AsyncPromisorTests {
+    
+    @Test
+    default void createAsyncPromisor_WithNullReferent_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            
+            assertThrown(IllegalArgumentException.class, () -> promisors.createAsyncPromisor(null));
+        });
+    }
+    
+    @Test
+    default void createAsyncPromisor_WithNullExecutor_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            
+            assertThrown(IllegalArgumentException.class, () -> promisors.createAsyncPromisor(() -> "x", null));
+        });
+    }
+    
+    @Test
+    default void createAsyncPromisor_demandAsync_DoesNotWait() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final List<Runnable> tasks = new ArrayList<>();
+            final AtomicInteger created = new AtomicInteger();
+            final AsyncPromisor<Integer> promisor = promisors.createAsyncPromisor(created::incrementAndGet, tasks::add);
+            promisor.incrementUsage();
+            
+            final CompletionStage<Integer> first = promisor.demandAsync();
+            final CompletionStage<Integer> second = promisor.demandAsync();
+            
+            assertFalse(first.toCompletableFuture().isDone(), "creation should not have run.");
+            assertEquals(1, tasks.size(), "creation should be started once.");
+            tasks.forEach(Runnable::run);
+            assertEquals(1, first.toCompletableFuture().join());
+            assertEquals(1, second.toCompletableFuture().join());
+            assertEquals(1, promisor.demand());
+            assertEquals(1, created.get(), "deliverable should be created once.");
+            promisor.decrementUsage();
+        });
+    }
+    
+    @Test
+    default void createAsyncPromisor_demandAsync_CanNotBeCompletedByCaller() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final List<Runnable> tasks = new ArrayList<>();
+            final AsyncPromisor<String> promisor = promisors.createAsyncPromisor(() -> "real", tasks::add);
+            promisor.incrementUsage();
+            
+            promisor.demandAsync().toCompletableFuture().complete("fake");
+            tasks.forEach(Runnable::run);
+            
+            assertEquals("real", promisor.demand());
+            promisor.decrementUsage();
+        });
+    }
+    
+    @Test
+    default void createAsyncPromisor_WhenCreationFails_RetriesOnNextDemand() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger attempts = new AtomicInteger();
+            final AsyncPromisor<String> promisor = promisors.createAsyncPromisor(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("First attempt failed.");
+                }
+                return "second";
+            }, Runnable::run);
+            promisor.incrementUsage();
+            
+            assertThrown(IllegalStateException.class, promisor::demand);
+            assertEquals("second", promisor.demand());
+            assertEquals(2, attempts.get());
+            promisor.decrementUsage();
+        });
+    }
+    
+    @Test
+    default void createAsyncPromisor_WhenUsageEnds_CreatesAgain() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger created = new AtomicInteger();
+            final AsyncPromisor<Integer> promisor = promisors.createAsyncPromisor(created::incrementAndGet, Runnable::run);
+            
+            promisor.incrementUsage();
+            assertEquals(1, promisor.demand());
+            assertEquals(1, promisor.demand());
+            promisor.decrementUsage();
+            promisor.incrementUsage();
+            assertEquals(2, promisor.demand());
+            promisor.decrementUsage();
+        });
+    }
+    
+    @Test
+    default void createAsyncPromisor_demand_AfterUsageEnds_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger created = new AtomicInteger();
+            final AsyncPromisor<Integer> promisor = promisors.createAsyncPromisor(created::incrementAndGet, Runnable::run);
+            
+            assertThrown(IllegalStateException.class, promisor::demand);
+            promisor.incrementUsage();
+            assertEquals(1, promisor.demand());
+            promisor.decrementUsage();
+            
+            assertThrown(IllegalStateException.class, promisor::demand);
+            assertThrown(IllegalStateException.class, promisor::demandAsync);
+            assertEquals(1, created.get(), "deliverable should not be created without usage.");
+        });
+    }
+    
+    @Test
+    default void claimAsync_WithAsyncPromisor_DoesNotBlockCaller() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<String> contract = Contract.create("slow deliverable");
+            final CountDownLatch release = new CountDownLatch(1);
+            
+            try (AutoClose closeBinding = contracts.bind(contract, promisors.createAsyncPromisor(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException thrown) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }))) {
+                ignore(closeBinding);
+                final CompletableFuture<String> future = contracts.claimAsync(contract).toCompletableFuture();
+                
+                assertFalse(future.isDone(), "claim should not wait for creation.");
+                release.countDown();
+                assertEquals("slow", assertDoesNotThrow(() -> future.get(10, TimeUnit.SECONDS)));
+                assertEquals("slow", contracts.claim(contract));
+            }
+        });
+    }
+    
+    @Test
+    default void claimAsync_WithPromisor_Works() {
+        withContracts(contracts -> {
+            final Contract<String> contract = Contract.create("plain deliverable");
+            
+            try (AutoClose closeBinding = contracts.bind(contract, () -> "plain")) {
+                ignore(closeBinding);
+                assertEquals("plain", contracts.claimAsync(contract).toCompletableFuture().join());
+            }
+        });
+    }
+    
+    @Test
+    default void claimAsync_WhenNotBound_CompletesExceptionally() {
+        withContracts(contracts -> {
+            final Contract<String> contract = Contract.create("not bound");
+            
+            final CompletableFuture<String> future = contracts.claimAsync(contract).toCompletableFuture();
+            
+            final ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+            assertTrue(thrown.getCause() instanceof ContractException, "cause should be a ContractException.");
+        });
+    }
+    
+    @Test
+    default void claimAsync_WithNullContract_Throws() {
+        withContracts(contracts ->
+            assertThrown(IllegalArgumentException.class, () -> contracts.claimAsync(null)));
+    }
+}
@@ -0,0 +1,253 @@
+package io.github.jonloucks.contracts.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.jonloucks.contracts.api.BindStrategy.ALWAYS;
+import static io.github.jonloucks.contracts.api.BindStrategy.IF_NOT_BOUND;
+import static io.github.jonloucks.contracts.test.Tools.*;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface ChangesetTests {
+    
+    @Test
+    default void changeset_create_IsEmpty() {
+        final Changeset changeset = Changeset.create();
+        
+        assertNotNull(changeset, "Changeset should not be null.");
+        assertTrue(changeset.getBindings().isEmpty(), "Changeset should be empty.");
+    }
+    
+    @Test
+    default void changeset_bind_WithNullArguments_Throws() {
+        final Changeset changeset = Changeset.create();
+        final Contract<String> contract = Contract.create(String.class);
+        
+        assertThrown(IllegalArgumentException.class, () -> changeset.bind(null, () -> "abc"));
+        assertThrown(IllegalArgumentException.class, () -> changeset.bind(contract, null));
+        assertThrown(IllegalArgumentException.class, () -> changeset.bind(contract, () -> "abc", null));
+        assertTrue(changeset.getBindings().isEmpty(), "Changeset should be empty.");
+    }
+    
+    @Test
+    default void changeset_bind_SameContractTwice_Throws() {
+        final Contract<String> contract = Contract.create(String.class);
+        final Changeset changeset = Changeset.create().bind(contract, () -> "abc");
+        
+        assertThrown(ContractException.class, () -> changeset.bind(contract, () -> "xyz"));
+        assertEquals(1, changeset.getBindings().size());
+    }
+    
+    @Test
+    default void changeset_getBindings_Works() {
+        final Contract<String> first = Contract.create(String.class);
+        final Contract<Integer> second = Contract.create(Integer.class);
+        final Promisor<Integer> secondPromisor = () -> 2;
+        final Changeset changeset = Changeset.create()
+            .bind(first, () -> "abc")
+            .bind(second, secondPromisor, IF_NOT_BOUND);
+        
+        final List<Changeset.Binding<?>> bindings = changeset.getBindings();
+        
+        assertEquals(2, bindings.size());
+        assertSame(first, bindings.get(0).getContract());
+        assertSame(BindStrategy.IF_ALLOWED, bindings.get(0).getBindStrategy());
+        assertSame(second, bindings.get(1).getContract());
+        assertSame(secondPromisor, bindings.get(1).getPromisor());
+        assertSame(IF_NOT_BOUND, bindings.get(1).getBindStrategy());
+        assertThrows(UnsupportedOperationException.class, () -> bindings.add(bindings.get(0)));
+    }
+    
+    @Test
+    default void changeset_apply_WithNullChangeset_Throws() {
+        withContracts(contracts -> {
+            assertThrown(IllegalArgumentException.class, () -> contracts.apply(null));
+        });
+    }
+    
+    @Test
+    default void changeset_apply_Empty_Works() {
+        withContracts(contracts -> {
+            try (AutoClose closeBindings = contracts.apply(Changeset.create())) {
+                assertNotNull(closeBindings, "AutoClose should not be null.");
+            }
+        });
+    }
+    
+    @Test
+    default void changeset_apply_Works() {
+        withContracts(contracts -> {
+            final Contract<String> first = Contract.create(String.class);
+            final Contract<Integer> second = Contract.create(Integer.class);
+            
+            try (AutoClose closeBindings = contracts.apply(Changeset.create()
+                .bind(first, () -> "abc")
+                .bind(second, () -> 2))) {
+                
+                assertEquals("abc", contracts.claim(first));
+                assertEquals(2, contracts.claim(second));
+                
+                implicitClose(closeBindings);
+                
+                assertFalse(contracts.isBound(first), "First contract should not be bound.");
+                assertFalse(contracts.isBound(second), "Second contract should not be bound.");
+            }
+        });
+    }
+    
+    @Test
+    default void changeset_apply_NotReplaceable_BindsNothing() {
+        withContracts(contracts -> {
+            final Contract<String> first = Contract.create(String.class);
+            final Contract<String> notReplaceable = Contract.create(String.class);
+            
+            try (AutoClose closeBinding = contracts.bind(notReplaceable, () -> "abc")) {
+                ignore(closeBinding);
+                final Changeset changeset = Changeset.create()
+                    .bind(first, () -> "first")
+                    .bind(notReplaceable, () -> "xyz", ALWAYS);
+                
+                assertThrown(ContractException.class, () -> contracts.apply(changeset));
+                
+                assertFalse(contracts.isBound(first), "First contract should not be bound.");
+                assertEquals("abc", contracts.claim(notReplaceable));
+            }
+        });
+    }
+    
+    @Test
+    default void changeset_apply_Rejected_ReleasesUsage() {
+        withContracts(contracts -> {
+            final Contract<String> first = Contract.create(String.class);
+            final Contract<String> notReplaceable = Contract.create(String.class);
+            final AtomicInteger usage = new AtomicInteger();
+            final Promisor<String> countingPromisor = new Promisor<String>() {
+                @Override
+                public String demand() {
+                    return "first";
+                }
+                
+                @Override
+                public int incrementUsage() {
+                    return usage.incrementAndGet();
+                }
+                
+                @Override
+                public int decrementUsage() {
+                    return usage.decrementAndGet();
+                }
+            };
+            
+            try (AutoClose closeBinding = contracts.bind(notReplaceable, () -> "abc")) {
+                ignore(closeBinding);
+                final Changeset changeset = Changeset.create()
+                    .bind(first, countingPromisor)
+                    .bind(notReplaceable, () -> "xyz", ALWAYS);
+                
+                assertThrown(ContractException.class, () -> contracts.apply(changeset));
+                assertEquals(0, usage.get(), "Usage should have been released.");
+            }
+        });
+    }
+    
+    @Test
+    default void changeset_apply_ConcurrentBind_NeverReplacesNotReplaceable() {
+        withContracts(contracts -> {
+            for (int i = 0; i < 200; i++) {
+                final Contract<String> contract = Contract.create(String.class);
+                final CyclicBarrier barrier = new CyclicBarrier(2);
+                final CompletableFuture<AutoClose> bound = CompletableFuture.supplyAsync(() -> {
+                    assertDoesNotThrow(() -> barrier.await());
+                    return contracts.bind(contract, () -> "bound");
+                });
+                assertDoesNotThrow(() -> barrier.await());
+                final AutoClose applied = contracts.apply(Changeset.create().bind(contract, () -> "applied"));
+                final AutoClose closeBound = bound.join();
+                
+                assertTrue(AutoClose.NONE == applied || AutoClose.NONE == closeBound,
+                    "Only one of the bindings should have been made.");
+                assertEquals(AutoClose.NONE == applied ? "bound" : "applied", contracts.claim(contract));
+                closeBound.close();
+                applied.close();
+                assertFalse(contracts.isBound(contract), "Contract should not be bound.");
+            }
+        });
+    }
+    
+    @Test
+    default void changeset_apply_Replaceable_Works() {
+        withContracts(contracts -> {
+            final Contract<Integer> replaceable = createReplaceableContract(Integer.class);
+            final Contract<Integer> notBound = Contract.create(Integer.class);
+            
+            try (AutoClose closeBinding = contracts.bind(replaceable, () -> 1)) {
+                ignore(closeBinding);
+                try (AutoClose closeBindings = contracts.apply(Changeset.create()
+                    .bind(replaceable, () -> 2)
+                    .bind(notBound, () -> 3, IF_NOT_BOUND))) {
+                    ignore(closeBindings);
+                    
+                    assertEquals(2, contracts.claim(replaceable));
+                    assertEquals(3, contracts.claim(notBound));
+                }
+                assertFalse(contracts.isBound(replaceable), "Replaced contract should not be bound.");
+                assertFalse(contracts.isBound(notBound), "Contract should not be bound.");
+            }
+        });
+    }
+    
+    @Test
+    default void changeset_apply_Default_Works() {
+        final List<Contract<?>> bound = new ArrayList<>();
+        final List<Contract<?>> unbound = new ArrayList<>();
+        final Decoy<String> decoy = new Decoy<String>() {
+            @Override
+            public <T> AutoClose bind(Contract<T> contract, Promisor<T> promisor, BindStrategy strategy) {
+                bound.add(contract);
+                return () -> unbound.add(contract);
+            }
+        };
+        final Contract<String> first = Contract.create(String.class);
+        final Contract<String> second = Contract.create(String.class);
+        
+        try (AutoClose closeBindings = decoy.apply(Changeset.create()
+            .bind(first, () -> "first")
+            .bind(second, () -> "second"))) {
+            ignore(closeBindings);
+            
+            assertEquals(asList(first, second), bound);
+            assertTrue(unbound.isEmpty(), "Nothing should be unbound.");
+        }
+        assertEquals(asList(second, first), unbound);
+    }
+    
+    @Test
+    default void changeset_apply_DefaultFailure_ReleasesBound() {
+        final List<Contract<?>> unbound = new ArrayList<>();
+        final Contract<String> first = Contract.create(String.class);
+        final Contract<String> second = Contract.create(String.class);
+        final Decoy<String> decoy = new Decoy<String>() {
+            @Override
+            public <T> AutoClose bind(Contract<T> contract, Promisor<T> promisor, BindStrategy strategy) {
+                if (contract == second) {
+                    throw new ContractException("Contract " + contract + " is not replaceable.");
+                }
+                return () -> unbound.add(contract);
+            }
+        };
+        final Changeset changeset = Changeset.create()
+            .bind(first, () -> "first")
+            .bind(second, () -> "second");
+        
+        assertThrown(ContractException.class, () -> decoy.apply(changeset));
+        assertEquals(singletonList(first), unbound);
+    }
+}
@@ -56,6 +56,18 @@ public interface ContractTests {
         assertTrue(contract.isReplaceable(), "Contract should have been replaceable");
     }
     
+    @Test
+    default void contract_getId_IsUniqueAndPositive() {
+        final Contract<String> first = Contract.create("first");
+        final Contract<String> second = Contract.create("second");
+        
+        assertAll(
+            () -> assertTrue(first.getId() > 0, "Contract id should be positive."),
+            () -> assertTrue(second.getId() > first.getId(), "Contract ids should increase."),
+            () -> assertEquals(first.getId(), first.getId(), "Contract id should not change.")
+        );
+    }
+    
     @Test
     default void contract_create_IntegerContract_Works() {
         final String contractName = "testContract";
@@ -137,8 +149,20 @@ public interface ContractTests {
             () -> assertFalse(defaults.isReplaceable(), "Default for replaceable."),
             () -> assertEquals("", defaults.name(), "Default for name."),
             () -> assertEquals("", defaults.typeName(), "Default for typeName."),
+            () -> assertFalse(defaults.isTypeCheckOnly(), "Default for type check only."),
             () -> assertSame( "abc", defaults.cast("abc"), "Cast should work."),
             () -> assertThrows(ClassCastException.class, () -> defaults.cast(12L), "Cast should fail on wrong type")
         );
     }
+    
+    @Test
+    default void contract_isTypeCheckOnly_Works() {
+        final Contract.Config<String> config = x -> (String)x;
+        
+        assertAll(
+            () -> assertTrue(Contract.create(String.class).isTypeCheckOnly(), "Created by class should only check the type."),
+            () -> assertTrue(Contract.create("by name").isTypeCheckOnly(), "Created by name should only check the type."),
+            () -> assertFalse(Contract.create(config).isTypeCheckOnly(), "Custom config should not be type check only.")
+        );
+    }
 }
@@ -4,10 +4,20 @@ package io.github.jonloucks.contracts.test;
 import io.github.jonloucks.contracts.api.*;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 
 import static io.github.jonloucks.contracts.api.BindStrategy.ALWAYS;
 import static io.github.jonloucks.contracts.api.BindStrategy.IF_NOT_BOUND;
+import static io.github.jonloucks.contracts.test.ContractsTests.ContractsTestsTools.claimWeakly;
+import static io.github.jonloucks.contracts.test.ContractsTests.ContractsTestsTools.openCloseRecorder;
 import static io.github.jonloucks.contracts.test.ContractsTests.ContractsTestsTools.runWithScenario;
 import static io.github.jonloucks.contracts.test.Tools.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -159,6 +169,380 @@ public interface ContractsTests {
         });
     }
     
+    @Test
+    default void contracts_bind_ManyContracts_Works() {
+        runWithScenario((contracts, closeContracts) -> {
+            final List<Contract<Integer>> contractList = new ArrayList<>();
+            final List<AutoClose> bindings = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                final int deliverable = i;
+                final Contract<Integer> contract = Contract.create("contract-" + i);
+                contractList.add(contract);
+                bindings.add(contracts.bind(contract, () -> deliverable));
+            }
+            
+            for (int i = 0; i < contractList.size(); i++) {
+                assertEquals(i, contracts.claim(contractList.get(i)));
+            }
+            bindings.forEach(Tools::implicitClose);
+            contractList.forEach(contract -> assertFalse(contracts.isBound(contract)));
+        });
+    }
+
+    @Test
+    default void contracts_bind_SparseContracts_Works() {
+        runWithScenario((contracts, closeContracts) -> {
+            final List<Contract<Integer>> contractList = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+                contractList.add(Contract.create("contract-" + i));
+            }
+            final List<AutoClose> bindings = new ArrayList<>();
+            for (int i = 0; i < contractList.size(); i += 37) {
+                final int deliverable = i;
+                bindings.add(contracts.bind(contractList.get(i), () -> deliverable));
+            }
+            for (int i = 0; i < bindings.size(); i += 2) {
+                bindings.get(i).close();
+            }
+
+            for (int i = 0; i < contractList.size(); i++) {
+                final boolean expectBound = i % 37 == 0 && (i / 37) % 2 == 1;
+                assertEquals(expectBound, contracts.isBound(contractList.get(i)), "Bound mismatch at " + i + ".");
+                if (expectBound) {
+                    assertEquals(i, contracts.claim(contractList.get(i)));
+                }
+            }
+            bindings.forEach(Tools::implicitClose);
+            contractList.forEach(contract -> assertFalse(contracts.isBound(contract)));
+        });
+    }
+
+    @Test
+    default void contracts_tryClaim_NotBound_IsEmpty() {
+        runWithScenario((contracts, closeContracts) -> {
+            final Contract<Integer> contract = Contract.create("test");
+            
+            assertFalse(contracts.tryClaim(contract).isPresent(), "Should be empty.");
+            assertEquals(7, contracts.claimOrElse(contract, 7));
+            assertNull(contracts.claimOrElse(contract, null));
+        });
+    }
+    
+    @Test
+    default void contracts_tryClaim_Bound_Works() {
+        runWithScenario((contracts, closeContracts) -> {
+            final Contract<Integer> contract = Contract.create("test");
+            
+            try (AutoClose closeBinding = contracts.bind(contract, () -> 3)) {
+                ignore(closeBinding);
+                
+                assertEquals(Optional.of(3), contracts.tryClaim(contract));
+                assertEquals(3, contracts.claimOrElse(contract, 7));
+            }
+        });
+    }
+    
+    @Test
+    default void contracts_tryClaim_BoundToNull_Works() {
+        runWithScenario((contracts, closeContracts) -> {
+            final Contract<Integer> contract = Contract.create("test");
+            
+            try (AutoClose closeBinding = contracts.bind(contract, () -> null)) {
+                ignore(closeBinding);
+                
+                assertFalse(contracts.tryClaim(contract).isPresent(), "Should be empty.");
+                assertNull(contracts.claimOrElse(contract, 7));
+            }
+        });
+    }
+    
+    @Test
+    default void contracts_tryClaim_WithNullContract_Throws() {
+        runWithScenario((contracts, closeContracts) -> {
+            assertThrown(IllegalArgumentException.class, () -> contracts.tryClaim(null));
+            assertThrown(IllegalArgumentException.class, () -> contracts.claimOrElse(null, 1));
+        });
+    }
+    
+    @Test
+    default void contracts_tryClaim_Default_Works() {
+        final Contract<String> bound = Contract.create("bound");
+        final Contract<String> unbound = Contract.create("unbound");
+        final Decoy<String> decoy = new Decoy<>() {
+            @Override
+            public <T> T claim(Contract<T> contract) {
+                return contract.cast("decoy");
+            }
+            
+            @Override
+            public <T> boolean isBound(Contract<T> contract) {
+                return contract == bound;
+            }
+        };
+        
+        assertAll(
+            () -> assertEquals(Optional.of("decoy"), decoy.tryClaim(bound)),
+            () -> assertEquals(Optional.empty(), decoy.tryClaim(unbound)),
+            () -> assertEquals("decoy", decoy.claimOrElse(bound, "fallback")),
+            () -> assertEquals("fallback", decoy.claimOrElse(unbound, "fallback"))
+        );
+    }
+    
+    @Test
+    default void contracts_claim_WithCustomCast_CastsEveryClaim() {
+        withContracts(contracts -> {
+            final AtomicInteger casts = new AtomicInteger();
+            final Contract<String> contract = Contract.create(instance -> {
+                casts.incrementAndGet();
+                return (String) instance;
+            });
+            
+            try (AutoClose closeBinding = contracts.bind(contract, () -> "value")) {
+                ignore(closeBinding);
+                final ClaimHandle<String> handle = contracts.handle(contract);
+                for (int i = 0; i < 3; i++) {
+                    assertEquals("value", contracts.claim(contract));
+                    assertEquals("value", handle.get());
+                }
+                assertEquals(6, casts.get(), "custom cast should be honoured on every claim.");
+            }
+        });
+    }
+    
+    @Test
+    default void contracts_claim_WithWrongType_AlwaysThrows() {
+        withContracts(contracts -> {
+            final Contract<String> contract = Contract.create(String.class);
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            final Contract<Object> wrong = (Contract) contract;
+            
+            try (AutoClose closeBinding = contracts.bind(wrong, () -> 42)) {
+                ignore(closeBinding);
+                assertThrows(ClassCastException.class, () -> contracts.claim(contract));
+                assertThrows(ClassCastException.class, () -> contracts.claim(contract), "a failed check should not be remembered.");
+            }
+        });
+    }
+    
+    @Test
+    default void contracts_claim_ValueWithWrongType_AlwaysThrows() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<String> contract = Contract.create(String.class);
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            final Contract<Object> wrong = (Contract) contract;
+            
+            try (AutoClose closeBinding = contracts.bind(wrong, promisors.createValuePromisor(42))) {
+                ignore(closeBinding);
+                assertThrows(ClassCastException.class, () -> contracts.claim(contract));
+                assertThrows(ClassCastException.class, () -> contracts.claim(contract), "a failed check should not be remembered.");
+            }
+        });
+    }
+    
+    @Test
+    default void contracts_claim_SoftDeliverable_IsReclaimedAndCreatedAgain() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<Object> contract = Contract.create("soft");
+            final AtomicInteger created = new AtomicInteger();
+            
+            try (AutoClose closeBinding = contracts.bind(contract, promisors.createSoftPromisor(() -> {
+                created.incrementAndGet();
+                return new Object();
+            }))) {
+                ignore(closeBinding);
+                final WeakReference<Object> first = claimWeakly(contracts, contract);
+                
+                applyMemoryPressure(() -> null == first.get());
+                
+                assertNull(first.get(), "the binding should not keep the deliverable from being reclaimed.");
+                assertNotNull(contracts.claim(contract));
+                assertEquals(2, created.get(), "deliverable should be created again.");
+            }
+        });
+    }
+    
+    @Test
+    default void contracts_claimAll_Works() {
+        withContracts(contracts -> {
+            final Contract<String> first = Contract.create(String.class);
+            final Contract<Integer> second = Contract.create(Integer.class);
+            final Contract<String> third = Contract.create(String.class);
+            
+            try (AutoClose closeBindings = contracts.apply(Changeset.create()
+                .bind(first, () -> "abc")
+                .bind(second, () -> 2)
+                .bind(third, () -> null))) {
+                ignore(closeBindings);
+                
+                assertArrayEquals(new Object[]{"abc", 2, null}, contracts.claimAll(first, second, third));
+                assertArrayEquals(new Object[]{2, "abc"}, contracts.claimAll(second, first));
+                assertArrayEquals(new Object[0], contracts.claimAll());
+            }
+        });
+    }
+    
+    @Test
+    default void contracts_claimAll_NotBound_Throws() {
+        withContracts(contracts -> {
+            final Contract<String> bound = Contract.create(String.class);
+            final Contract<String> unbound = Contract.create(String.class);
+            
+            try (AutoClose closeBinding = contracts.bind(bound, () -> "abc")) {
+                ignore(closeBinding);
+                
+                assertThrown(ContractException.class, () -> contracts.claimAll(bound, unbound));
+            }
+        });
+    }
+    
+    @Test
+    default void contracts_claimAll_WithNullContracts_Throws() {
+        withContracts(contracts -> {
+            final Contract<String> contract = Contract.create(String.class);
+            
+            assertThrown(IllegalArgumentException.class, () -> contracts.claimAll((Contract<?>[]) null));
+            assertThrown(IllegalArgumentException.class, () -> contracts.claimAll(contract, null));
+        });
+    }
+    
+    @Test
+    default void contracts_claimAll_Default_Works() {
+        final Contract<String> first = Contract.create(String.class);
+        final Contract<Integer> second = Contract.create(Integer.class);
+        final Decoy<String> decoy = new Decoy<>() {
+            @Override
+            public <T> T claim(Contract<T> contract) {
+                return contract == first ? contract.cast("decoy") : null;
+            }
+        };
+        
+        assertArrayEquals(new Object[]{"decoy", null}, decoy.claimAll(first, second));
+        assertThrown(IllegalArgumentException.class, () -> decoy.claimAll((Contract<?>[]) null));
+    }
+    
+    @Test
+    default void contracts_useShutdownHooks_ManyInstances_Works() {
+        final Contract<String> contract = Contract.create(String.class);
+        
+        for (int i = 0; i < 1_000; i++) {
+            final Contracts contracts = GlobalContracts.createContracts(new Contracts.Config() {});
+            try (AutoClose closeContracts = contracts.open()) {
+                ignore(closeContracts);
+                ignore(contracts.bind(contract, () -> "abc"));
+                
+                assertEquals("abc", contracts.claim(contract));
+            }
+            assertFalse(contracts.isBound(contract), "Contract should not be bound after close.");
+        }
+    }
+    
+    @Test
+    default void contracts_shutdownParallelism_Invalid_Throws() {
+        assertThrown(IllegalArgumentException.class, () -> GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public int shutdownParallelism() {
+                return 0;
+            }
+        }));
+        assertThrown(IllegalArgumentException.class, () -> GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public Duration shutdownTimeout() {
+                return Duration.ZERO;
+            }
+        }));
+    }
+    
+    @Test
+    default void contracts_closeParallelism_Invalid_Throws() {
+        assertThrown(IllegalArgumentException.class, () -> GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public int closeParallelism() {
+                return 0;
+            }
+        }));
+        assertThrown(IllegalArgumentException.class, () -> GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public Duration closeTimeout() {
+                return Duration.ZERO;
+            }
+        }));
+        assertThrown(IllegalArgumentException.class, () -> GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public Duration bindingCloseTimeout() {
+                return null;
+            }
+        }));
+    }
+    
+    @Test
+    default void contracts_closeParallelism_ClosesDependentsFirst() {
+        final List<String> closed = Collections.synchronizedList(new ArrayList<>());
+        final Contract<AutoOpen> base = Contract.create("base");
+        final Contract<AutoOpen> first = Contract.create("first");
+        final Contract<AutoOpen> second = Contract.create("second");
+        final Contracts contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public int closeParallelism() {
+                return 4;
+            }
+        });
+        final AutoClose closeContracts = contracts.open();
+        
+        ignore(contracts.bind(base, GlobalContracts.lifeCycle(() -> openCloseRecorder("base", closed))));
+        ignore(contracts.bind(first, GlobalContracts.lifeCycle(() -> {
+            contracts.claim(base);
+            return openCloseRecorder("first", closed);
+        })));
+        ignore(contracts.bind(second, GlobalContracts.lifeCycle(() -> {
+            contracts.claim(base);
+            return openCloseRecorder("second", closed);
+        })));
+        contracts.claim(first);
+        contracts.claim(second);
+        
+        implicitClose(closeContracts);
+        
+        assertEquals(3, closed.size());
+        assertEquals("base", closed.get(2));
+        assertFalse(contracts.isBound(base), "Contract should not be bound after close.");
+    }
+    
+    @Test
+    default void contracts_closeTimeout_ReportsStillOpen() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Contract<AutoOpen> stuck = Contract.create("stuck");
+        final Contracts contracts = GlobalContracts.createContracts(new Contracts.Config() {
+            @Override
+            public int closeParallelism() {
+                return 2;
+            }
+            
+            @Override
+            public Duration bindingCloseTimeout() {
+                return Duration.ofMillis(50);
+            }
+        });
+        final AutoClose closeContracts = contracts.open();
+        
+        ignore(contracts.bind(stuck, GlobalContracts.lifeCycle(() -> () -> () -> {
+            try {
+                release.await();
+            } catch (InterruptedException thrown) {
+                Thread.currentThread().interrupt();
+            }
+        })));
+        contracts.claim(stuck);
+        
+        try {
+            final ContractException thrown = assertThrows(ContractException.class, closeContracts::close);
+            assertTrue(thrown.getMessage().contains("stuck"), "Message should name the binding still open.");
+        } finally {
+            release.countDown();
+        }
+    }
+    
     @Test
     default void contracts_InternalCoverage() {
         assertInstantiateThrows(ContractsTestsTools.class);
@@ -173,6 +557,17 @@ public interface ContractsTests {
         
         }
         
+        static AutoOpen openCloseRecorder(String name, List<String> closed) {
+            return () -> () -> closed.add(name);
+        }
+        
+        static WeakReference<Object> claimWeakly(Contracts contracts, Contract<Object> contract) {
+            // claimed twice, the second claim is served from the published deliverable
+            final Object deliverable = contracts.claim(contract);
+            assertSame(deliverable, contracts.claim(contract));
+            return new WeakReference<>(deliverable);
+        }
+        
         static void runWithScenario(ScenarioConfig config) {
             final Contracts contracts = GlobalContracts.createContracts(new Contracts.Config() {});
             try (AutoClose autoClose = contracts.open()) {
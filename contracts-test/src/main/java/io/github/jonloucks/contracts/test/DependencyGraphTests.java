@@ -0,0 +1,136 @@
+package io.github.jonloucks.contracts.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static io.github.jonloucks.contracts.test.Tools.*;
+import static java.util.Arrays.asList;
+import static java.util.Collections.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface DependencyGraphTests {
+    
+    @Test
+    default void dependencyGraph_create_WithNullArguments_Throws() {
+        assertThrown(IllegalArgumentException.class, () -> DependencyGraph.create(null, emptyMap()));
+        assertThrown(IllegalArgumentException.class, () -> DependencyGraph.create(emptyMap(), null));
+    }
+    
+    @Test
+    default void dependencyGraph_create_Empty_Works() {
+        final DependencyGraph graph = DependencyGraph.create(emptyMap(), emptyMap());
+        
+        assertTrue(graph.getContracts().isEmpty(), "Graph should be empty.");
+        assertTrue(graph.getCriticalPath().isEmpty(), "Critical path should be empty.");
+        assertEquals("{\"contracts\":[]}", graph.toJson());
+        assertEquals("digraph contracts {\n}\n", graph.toDot());
+    }
+    
+    @Test
+    default void dependencyGraph_create_Works() {
+        final Contract<String> first = Contract.create("first");
+        final Contract<String> second = Contract.create("second");
+        final Contract<String> third = Contract.create("third \"quoted\"");
+        final Map<Contract<?>, List<Contract<?>>> dependencies = new HashMap<>();
+        dependencies.put(first, asList(second, third));
+        dependencies.put(second, singletonList(third));
+        final Map<Contract<?>, Duration> creationTimes = new HashMap<>();
+        creationTimes.put(first, Duration.ofMillis(1));
+        creationTimes.put(second, Duration.ofMillis(5));
+        creationTimes.put(third, Duration.ofMillis(2));
+        
+        final DependencyGraph graph = DependencyGraph.create(dependencies, creationTimes);
+        
+        assertEquals(new HashSet<>(asList(first, second, third)), graph.getContracts());
+        assertEquals(new HashSet<>(asList(second, third)), graph.getDependencies(first));
+        assertEquals(new HashSet<>(asList(first, second)), graph.getDependents(third));
+        assertTrue(graph.getDependents(first).isEmpty(), "First should have no dependents.");
+        assertEquals(Optional.of(Duration.ofMillis(5)), graph.getCreationTime(second));
+        assertEquals(asList(first, second, third), graph.getCriticalPath());
+        assertTrue(graph.toDot().contains("c" + first.getId() + " -> c" + second.getId() + ";"), "Dot should have the edge.");
+        assertTrue(graph.toDot().contains("\"third \\\"quoted\\\"\""), "Dot should escape the name.");
+        assertTrue(graph.toJson().contains("\"dependencies\":[" + third.getId() + "]"), "Json should have the dependency.");
+        assertThrown(IllegalArgumentException.class, () -> graph.getDependencies(null));
+        assertThrows(UnsupportedOperationException.class, () -> graph.getContracts().clear());
+    }
+    
+    @Test
+    default void dependencyGraph_create_WithCycle_Works() {
+        final Contract<String> first = Contract.create("first");
+        final Contract<String> second = Contract.create("second");
+        final Map<Contract<?>, Set<Contract<?>>> dependencies = new HashMap<>();
+        dependencies.put(first, singleton(second));
+        dependencies.put(second, singleton(first));
+        
+        final DependencyGraph graph = DependencyGraph.create(dependencies, emptyMap());
+        
+        assertEquals(2, graph.getCriticalPath().size());
+    }
+    
+    @Test
+    default void dependencyGraph_getDependencyGraph_RecordsNestedClaims() {
+        withContracts(contracts -> {
+            final Contract<String> database = Contract.create("database");
+            final Contract<String> service = Contract.create("service");
+            final Contract<String> unrelated = Contract.create("unrelated");
+            
+            ignore(contracts.bind(database, GlobalContracts.lifeCycle(() -> "database")));
+            ignore(contracts.bind(service, GlobalContracts.lifeCycle(() -> "service of " + contracts.claim(database))));
+            ignore(contracts.bind(unrelated, () -> contracts.claim(database)));
+            
+            assertEquals("service of database", contracts.claim(service));
+            assertEquals("database", contracts.claim(unrelated));
+            
+            final DependencyGraph graph = contracts.getDependencyGraph();
+            
+            assertEquals(singleton(database), graph.getDependencies(service));
+            assertEquals(singleton(service), graph.getDependents(database));
+            assertTrue(graph.getDependencies(unrelated).isEmpty(), "Only creating Promisors record dependencies.");
+            assertTrue(graph.getCreationTime(service).isPresent(), "Creation time should be present.");
+            assertEquals(asList(service, database), graph.getCriticalPath().subList(0, 2));
+        });
+    }
+    
+    @Test
+    default void dependencyGraph_getDependencyGraph_OtherThreadCreating_NotRecorded() {
+        withContracts(contracts -> {
+            final Contract<String> slow = Contract.create("slow");
+            final Contract<String> other = Contract.create("other");
+            final Contract<String> claimedWhileSlow = Contract.create("claimed while slow");
+            final CountDownLatch creating = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            
+            ignore(contracts.bind(other, () -> "other"));
+            ignore(contracts.bind(claimedWhileSlow, GlobalContracts.lifeCycle(() -> "claimed " + contracts.claim(other))));
+            ignore(contracts.bind(slow, GlobalContracts.lifeCycle(() -> {
+                creating.countDown();
+                assertDoesNotThrow(() -> release.await());
+                return "slow";
+            })));
+            
+            final CompletableFuture<String> slowClaim = CompletableFuture.supplyAsync(() -> contracts.claim(slow));
+            assertDoesNotThrow(() -> creating.await());
+            assertEquals("claimed other", contracts.claim(claimedWhileSlow));
+            release.countDown();
+            assertEquals("slow", slowClaim.join());
+            
+            final DependencyGraph graph = contracts.getDependencyGraph();
+            
+            assertTrue(graph.getDependencies(slow).isEmpty(), "Claims on other threads should not be recorded.");
+            assertEquals(singleton(other), graph.getDependencies(claimedWhileSlow));
+            assertTrue(graph.getCreationTime(slow).isPresent(), "Creation time should be present.");
+        });
+    }
+    
+    @Test
+    default void dependencyGraph_getDependencyGraph_Default_IsEmpty() {
+        final Decoy<String> decoy = new Decoy<>() {};
+        
+        assertTrue(decoy.getDependencyGraph().getContracts().isEmpty(), "Graph should be empty.");
+    }
+}
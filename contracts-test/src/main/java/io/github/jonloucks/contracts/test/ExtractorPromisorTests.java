@@ -1,5 +1,7 @@
 package io.github.jonloucks.contracts.test;
 
+import io.github.jonloucks.contracts.api.AutoClose;
+import io.github.jonloucks.contracts.api.Contract;
 import io.github.jonloucks.contracts.api.Promisor;
 import io.github.jonloucks.contracts.api.Promisors;
 import org.junit.jupiter.api.Test;
@@ -9,7 +11,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static io.github.jonloucks.contracts.test.Tools.assertThrown;
+import static io.github.jonloucks.contracts.test.Tools.ignore;
 import static io.github.jonloucks.contracts.test.Tools.withContracts;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -66,4 +71,75 @@ public interface ExtractorPromisorTests {
             );
         });
     }
+    
+    @Test
+    default void memoizedExtractPromisor_NullArguments_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            
+            assertThrown(IllegalArgumentException.class,
+                () -> promisors.createMemoizedExtractPromisor(null, t -> "xyz"));
+            assertThrown(IllegalArgumentException.class,
+                () -> promisors.createMemoizedExtractPromisor(() -> "abc", null));
+        });
+    }
+    
+    @Test
+    default void memoizedExtractPromisor_SameSource_ExtractsOnce() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger extracted = new AtomicInteger();
+            final Promisor<Integer> promisor = promisors.createMemoizedExtractPromisor(() -> "abc", text -> {
+                extracted.incrementAndGet();
+                return text.length();
+            });
+            
+            assertEquals(3, promisor.demand());
+            assertEquals(3, promisor.demand());
+            assertEquals(1, extracted.get(), "same source should not be extracted again.");
+        });
+    }
+    
+    @Test
+    default void memoizedExtractPromisor_WhenSourceRecreated_ExtractsAgain() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger extracted = new AtomicInteger();
+            final Promisor<StringBuilder> source = promisors.createLifeCyclePromisor(() -> new StringBuilder("abc"));
+            final Promisor<Integer> promisor = promisors.createMemoizedExtractPromisor(source, builder -> {
+                extracted.incrementAndGet();
+                return builder.length();
+            });
+            
+            promisor.incrementUsage();
+            assertEquals(3, promisor.demand());
+            assertEquals(3, promisor.demand());
+            promisor.decrementUsage();
+            promisor.incrementUsage();
+            assertEquals(3, promisor.demand());
+            promisor.decrementUsage();
+            assertEquals(2, extracted.get(), "new source should be extracted again.");
+        });
+    }
+    
+    @Test
+    default void memoizedExtractPromisor_WhenSourceRebound_ExtractsAgain() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<String> source = Contract.create(String.class, b -> b.replaceable(true));
+            final Contract<Integer> derived = Contract.create("derived");
+            
+            try (AutoClose closeSource = contracts.bind(source, () -> "abc");
+                 AutoClose closeDerived = contracts.bind(derived,
+                     promisors.createMemoizedExtractPromisor(() -> contracts.claim(source), String::length))) {
+                ignore(closeDerived);
+                assertEquals(3, contracts.claim(derived));
+                try (AutoClose closeRebound = contracts.bind(source, () -> "abcdef")) {
+                    ignore(closeRebound);
+                    assertEquals(6, contracts.claim(derived), "derived value should follow its source.");
+                }
+                ignore(closeSource);
+            }
+        });
+    }
 }
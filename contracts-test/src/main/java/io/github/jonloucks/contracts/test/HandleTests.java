@@ -0,0 +1,184 @@
+package io.github.jonloucks.contracts.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+
+import static io.github.jonloucks.contracts.test.HandleTests.HandleTestsTools.invokeHandle;
+import static io.github.jonloucks.contracts.test.Tools.*;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface HandleTests {
+    
+    @Test
+    default void handle_WithNullContract_Throws() {
+        withContracts(contracts -> {
+            assertThrown(IllegalArgumentException.class, () -> contracts.handle(null));
+        });
+    }
+    
+    @Test
+    default void handle_NotBound_Throws() {
+        withContracts(contracts -> {
+            final ClaimHandle<String> handle = contracts.handle(Contract.create(String.class));
+            
+            assertNotNull(handle, "Handle should not be null.");
+            assertThrown(ContractException.class, handle::get);
+        });
+    }
+    
+    @Test
+    default void handle_Bound_Works() {
+        withContracts(contracts -> {
+            final Contract<String> contract = Contract.create(String.class);
+            final ClaimHandle<String> handle = contracts.handle(contract);
+            
+            try (AutoClose closeBinding = contracts.bind(contract, () -> "abc")) {
+                ignore(closeBinding);
+                
+                assertEquals("abc", handle.get());
+                assertEquals("abc", handle.get());
+            }
+            assertThrown(ContractException.class, handle::get);
+        });
+    }
+    
+    @Test
+    default void handle_Rebind_IsHonoured() {
+        withContracts(contracts -> {
+            final Contract<Integer> contract = createReplaceableContract(Integer.class);
+            final ClaimHandle<Integer> handle = contracts.handle(contract);
+            
+            try (AutoClose firstBinding = contracts.bind(contract, () -> 1)) {
+                assertEquals(1, handle.get());
+                try (AutoClose secondBinding = contracts.bind(contract, () -> 2)) {
+                    ignore(secondBinding);
+                    assertEquals(2, handle.get());
+                    
+                    implicitClose(firstBinding);
+                    assertEquals(2, handle.get());
+                }
+                assertThrown(ContractException.class, handle::get);
+                
+                try (AutoClose thirdBinding = contracts.bind(contract, () -> 3)) {
+                    ignore(thirdBinding);
+                    assertEquals(3, handle.get());
+                }
+            }
+        });
+    }
+    
+    @Test
+    default void handle_FromPartner_Works() {
+        withContracts(partner -> {
+            final Contracts.Config config = new Contracts.Config() {
+                @Override
+                public List<Contracts> getPartners() {
+                    return singletonList(partner);
+                }
+            };
+            withContracts(config, primary -> {
+                final Contract<String> contract = Contract.create(String.class);
+                final ClaimHandle<String> handle = primary.handle(contract);
+                
+                try (AutoClose closePartner = partner.bind(contract, () -> "Partner")) {
+                    ignore(closePartner);
+                    assertEquals("Partner", handle.get());
+                    
+                    try (AutoClose closePrimary = primary.bind(contract, () -> "Primary")) {
+                        ignore(closePrimary);
+                        assertEquals("Primary", handle.get());
+                    }
+                    assertEquals("Partner", handle.get());
+                }
+            });
+        });
+    }
+    
+    @Test
+    default void handle_Default_Works() {
+        final Contract<String> contract = Contract.create(String.class);
+        final Decoy<String> decoy = new Decoy<>() {
+            @Override
+            public <T> T claim(Contract<T> claimed) {
+                return claimed.cast("decoy");
+            }
+        };
+        
+        assertEquals("decoy", decoy.handle(contract).get());
+    }
+    
+    @Test
+    default void constantHandle_WithNullContract_Throws() {
+        withContracts(contracts -> {
+            assertThrown(IllegalArgumentException.class, () -> contracts.constantHandle(null));
+        });
+    }
+    
+    @Test
+    default void constantHandle_NotBound_Throws() {
+        withContracts(contracts -> {
+            final MethodHandle handle = contracts.constantHandle(Contract.create(String.class));
+            
+            assertNotNull(handle, "Handle should not be null.");
+            assertThrown(ContractException.class, () -> invokeHandle(handle));
+        });
+    }
+    
+    @Test
+    default void constantHandle_Rebind_IsHonoured() {
+        withContracts(contracts -> {
+            final Contract<Integer> contract = createReplaceableContract(Integer.class);
+            final MethodHandle handle = contracts.constantHandle(contract);
+            
+            try (AutoClose firstBinding = contracts.bind(contract, () -> 1)) {
+                ignore(firstBinding);
+                assertEquals(1, invokeHandle(handle));
+                assertEquals(1, invokeHandle(handle));
+                
+                try (AutoClose secondBinding = contracts.bind(contract, () -> 2)) {
+                    ignore(secondBinding);
+                    assertEquals(2, invokeHandle(handle));
+                }
+                assertThrown(ContractException.class, () -> invokeHandle(handle));
+            }
+        });
+    }
+    
+    @Test
+    default void constantHandle_Default_Works() throws Throwable {
+        final Contract<String> contract = Contract.create(String.class);
+        final Decoy<String> decoy = new Decoy<>() {
+            @Override
+            public <T> T claim(Contract<T> claimed) {
+                return claimed.cast("decoy");
+            }
+        };
+        
+        assertEquals("decoy", decoy.constantHandle(contract).invoke());
+    }
+    
+    @Test
+    default void handle_InternalCoverage() {
+        assertInstantiateThrows(HandleTestsTools.class);
+    }
+    
+    final class HandleTestsTools {
+        private HandleTestsTools() {
+            throw new AssertionError("Illegal constructor");
+        }
+        
+        static Object invokeHandle(MethodHandle handle) {
+            try {
+                return handle.invoke();
+            } catch (RuntimeException | Error thrown) {
+                throw thrown;
+            } catch (Throwable thrown) {
+                throw new AssertionError("Unexpected checked exception.", thrown);
+            }
+        }
+    }
+}
@@ -12,6 +12,8 @@ import org.mockito.quality.Strictness;
 import org.mockito.stubbing.Answer;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -45,6 +47,43 @@ public interface LifeCyclePromisorTests {
         });
     }
     
+    @Test
+    default void lifeCyclePromisor_demand_AfterUsageEnds_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger created = new AtomicInteger();
+            final Promisor<Integer> promisor = promisors.createLifeCyclePromisor(created::incrementAndGet);
+            
+            promisor.incrementUsage();
+            assertEquals(1, promisor.demand());
+            assertEquals(1, promisor.demand(), "created deliverable should be reused.");
+            promisor.decrementUsage();
+            
+            assertThrown(IllegalStateException.class, promisor::demand);
+            
+            promisor.incrementUsage();
+            assertEquals(2, promisor.demand(), "deliverable should be created again.");
+            promisor.decrementUsage();
+        });
+    }
+    
+    @Test
+    default void lifeCyclePromisor_WithNullDeliverable_IsCreatedOnce() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger created = new AtomicInteger();
+            final Promisor<String> promisor = promisors.createLifeCyclePromisor(() -> {
+                created.incrementAndGet();
+                return null;
+            });
+            promisor.incrementUsage();
+            
+            assertNull(promisor.demand());
+            assertNull(promisor.demand());
+            assertEquals(1, created.get(), "null deliverable should be reused.");
+        });
+    }
+    
     @Test
     default void lifeCyclePromisor_WithNullDeliverable_IsAllowed() {
         withContracts(contracts -> {
@@ -202,6 +241,44 @@ public interface LifeCyclePromisorTests {
         });
     }
     
+    @Test
+    default void lifeCyclePromisor_SlowOpen_DoesNotStarveVirtualThreads() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<AutoOpen> contract = Contract.create("slow open");
+            final int claimCount = 5_000;
+            final CountDownLatch opening = new CountDownLatch(1);
+            final CountDownLatch unrelatedRan = new CountDownLatch(1);
+            final AtomicBoolean openWasStarved = new AtomicBoolean();
+            final AutoOpen instance = () -> {
+                opening.countDown();
+                try {
+                    // only completes if a carrier is free while every claim waits for this open
+                    openWasStarved.set(!unrelatedRan.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException thrown) {
+                    Thread.currentThread().interrupt();
+                }
+                return AutoClose.NONE;
+            };
+            final ExecutorService executor = newVirtualThreadExecutor();
+            try (AutoClose unbind = contracts.bind(contract, promisors.createLifeCyclePromisor(() -> instance))) {
+                ignore(unbind);
+                final List<Future<AutoOpen>> claims = new ArrayList<>();
+                for (int i = 0; i < claimCount; i++) {
+                    claims.add(executor.submit(() -> contracts.claim(contract)));
+                }
+                assertTrue(assertDoesNotThrow(() -> opening.await(10, TimeUnit.SECONDS)), "open should have started.");
+                executor.submit(unrelatedRan::countDown);
+                for (Future<AutoOpen> claim : claims) {
+                    assertSame(instance, assertDoesNotThrow(() -> claim.get(30, TimeUnit.SECONDS)));
+                }
+                assertFalse(openWasStarved.get(), "waiting claims should not starve other virtual threads.");
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+    }
+    
     @Test
     default void lifecyclePromisor_InternalCoverage() {
         assertInstantiateThrows(ConcurrencyTestsTool.class);
@@ -310,6 +387,17 @@ public interface LifeCyclePromisorTests {
             });
         }
         
+        /**
+         * Virtual threads when the JDK has them, the tests are compiled for older JDKs
+         */
+        static ExecutorService newVirtualThreadExecutor() {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException thrown) {
+                return Executors.newCachedThreadPool();
+            }
+        }
+        
         static <T> Promisor<T> createTestSubject(Contracts contracts, Promisor<T> promisor) {
             final Promisors promisors = contracts.claim(Promisors.CONTRACT);
             return promisors.createLifeCyclePromisor(promisor);
@@ -6,7 +6,9 @@ import io.github.jonloucks.contracts.api.ContractException;
 import io.github.jonloucks.contracts.api.Contracts;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static io.github.jonloucks.contracts.test.Tools.*;
 import static java.util.Collections.singletonList;
@@ -98,4 +100,98 @@ public interface PartnersTests {
             });
         });
     }
+    
+    @Test
+    default void partners_tryClaim_Works() {
+        withContracts(partner -> {
+            final Contracts.Config config = new Contracts.Config() {
+                @Override
+                public List<Contracts> getPartners() {
+                    return singletonList(partner);
+                }
+            };
+            withContracts(config, primary -> {
+                final Contract<String> contract = Contract.create(String.class);
+                
+                assertEquals(Optional.empty(), primary.tryClaim(contract));
+                assertEquals("Fallback", primary.claimOrElse(contract, "Fallback"));
+                
+                try (AutoClose close = partner.bind(contract, () -> "Partner")) {
+                    ignore(close);
+                    
+                    assertEquals(Optional.of("Partner"), primary.tryClaim(contract));
+                    assertEquals("Partner", primary.claimOrElse(contract, "Fallback"));
+                }
+            });
+        });
+    }
+    
+    @Test
+    default void partners_foreignPartner_Works() {
+        final Contract<String> contract = Contract.create(String.class);
+        final Decoy<String> foreign = new Decoy<>() {
+            @Override
+            public <T> T claim(Contract<T> claimed) {
+                return claimed.cast("Foreign");
+            }
+            
+            @Override
+            public <T> boolean isBound(Contract<T> claimed) {
+                return claimed == contract;
+            }
+        };
+        final Contracts.Config config = new Contracts.Config() {
+            @Override
+            public List<Contracts> getPartners() {
+                return singletonList(foreign);
+            }
+        };
+        withContracts(config, primary -> {
+            assertTrue(primary.isBound(contract));
+            assertEquals("Foreign", primary.claim(contract));
+            assertEquals(Optional.of("Foreign"), primary.tryClaim(contract));
+            assertFalse(primary.isBound(Contract.create(String.class)));
+        });
+    }
+    
+    @Test
+    default void partners_diamondPartners_Works() {
+        withContracts(root -> {
+            final Contracts.Config rootConfig = new Contracts.Config() {
+                @Override
+                public List<Contracts> getPartners() {
+                    return singletonList(root);
+                }
+            };
+            withContracts(rootConfig, left -> withContracts(rootConfig, right -> {
+                final Contracts.Config leafConfig = new Contracts.Config() {
+                    @Override
+                    public List<Contracts> getPartners() {
+                        return Arrays.asList(left, right);
+                    }
+                };
+                withContracts(leafConfig, leaf -> {
+                    final Contract<String> contract = Contract.create(String.class);
+                    
+                    assertFalse(leaf.isBound(contract));
+                    try (AutoClose closeRoot = root.bind(contract, () -> "Root")) {
+                        ignore(closeRoot);
+                        assertEquals("Root", leaf.claim(contract));
+                        
+                        try (AutoClose closeRight = right.bind(contract, () -> "Right")) {
+                            ignore(closeRight);
+                            assertEquals("Root", leaf.claim(contract), "Left then root is searched before right.");
+                            
+                            try (AutoClose closeLeft = left.bind(contract, () -> "Left")) {
+                                ignore(closeLeft);
+                                assertEquals("Left", leaf.claim(contract));
+                            }
+                            assertEquals("Root", leaf.claim(contract));
+                        }
+                    }
+                    assertFalse(leaf.isBound(contract));
+                });
+            }));
+        });
+    }
 }
@@ -0,0 +1,267 @@
+package io.github.jonloucks.contracts.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.jonloucks.contracts.test.PoolPromisorTests.PoolPromisorTestsTools.newCounted;
+import static io.github.jonloucks.contracts.test.Tools.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface PoolPromisorTests {
+    
+    @Test
+    default void createPoolPromisor_WithNullReferent_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            
+            assertThrown(IllegalArgumentException.class, () -> promisors.createPoolPromisor(null, 2));
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_WithZeroCapacity_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            
+            assertThrown(IllegalArgumentException.class, () -> promisors.createPoolPromisor(Object::new, 0));
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_demand_WithoutUsage_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Promisor<Lease<Object>> promisor = promisors.createPoolPromisor(Object::new, 2);
+            
+            assertThrown(IllegalStateException.class, promisor::demand);
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_ClosedLease_IsReused() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<Lease<Object>> contract = Contract.create("pooled");
+            
+            try (AutoClose closeBinding = contracts.bind(contract, promisors.createPoolPromisor(Object::new, 2))) {
+                ignore(closeBinding);
+                final Object first;
+                try (Lease<Object> lease = contracts.claim(contract)) {
+                    first = lease.get();
+                }
+                try (Lease<Object> lease = contracts.claim(contract)) {
+                    assertSame(first, lease.get(), "returned deliverable should be reused.");
+                }
+            }
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_OpenLeases_AreExclusive() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Promisor<Lease<Object>> promisor = promisors.createPoolPromisor(Object::new, 2);
+            promisor.incrementUsage();
+            
+            try (Lease<Object> first = promisor.demand(); Lease<Object> second = promisor.demand();
+                 Lease<Object> third = promisor.demand()) {
+                assertNotSame(first.get(), second.get(), "leases should not share a deliverable.");
+                assertNotSame(second.get(), third.get(), "leases should not share a deliverable.");
+                assertNotSame(first.get(), third.get(), "leases should not share a deliverable.");
+            } finally {
+                promisor.decrementUsage();
+            }
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_Lease_WhenClosed_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Promisor<Lease<Object>> promisor = promisors.createPoolPromisor(Object::new, 1);
+            promisor.incrementUsage();
+            
+            final Lease<Object> lease = promisor.demand();
+            assertIdempotent(lease);
+            assertThrown(IllegalStateException.class, lease::get);
+            promisor.decrementUsage();
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_OverCapacity_ClosesExtra() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger opened = new AtomicInteger();
+            final AtomicInteger closed = new AtomicInteger();
+            final Promisor<Lease<AutoOpen>> promisor = promisors.createPoolPromisor(() -> newCounted(opened, closed), 1);
+            promisor.incrementUsage();
+            
+            final Lease<AutoOpen> first = promisor.demand();
+            final Lease<AutoOpen> second = promisor.demand();
+            first.close();
+            second.close();
+            
+            assertEquals(2, opened.get(), "each created deliverable should be opened.");
+            assertEquals(1, closed.get(), "deliverable over capacity should be closed.");
+            promisor.decrementUsage();
+            assertEquals(2, closed.get(), "kept deliverable should be closed when usage ends.");
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_WhenUnbound_ClosesAll() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<Lease<AutoOpen>> contract = Contract.create("pooled");
+            final AtomicInteger opened = new AtomicInteger();
+            final AtomicInteger closed = new AtomicInteger();
+            final Lease<AutoOpen> stillLeased;
+            
+            try (AutoClose closeBinding = contracts.bind(contract, promisors.createPoolPromisor(() -> newCounted(opened, closed), 4))) {
+                ignore(closeBinding);
+                contracts.claim(contract).close();
+                stillLeased = contracts.claim(contract);
+                contracts.claim(contract).close();
+            }
+            assertEquals(2, opened.get());
+            assertEquals(1, closed.get(), "free deliverable should be closed when unbound.");
+            stillLeased.close();
+            assertEquals(2, closed.get(), "leased deliverable should be closed when returned.");
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_ConcurrentLeases_AreExclusive() {
+        withContracts(contracts -> {
+            final int threadCount = 16;
+            final int leasesPerThread = 2_000;
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Promisor<Lease<AtomicInteger>> promisor = promisors.createPoolPromisor(AtomicInteger::new, 4);
+            final Set<AtomicInteger> created = ConcurrentHashMap.newKeySet();
+            final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            promisor.incrementUsage();
+            try {
+                final List<Future<Boolean>> results = new ArrayList<>();
+                for (int t = 0; t < threadCount; t++) {
+                    results.add(executor.submit(() -> {
+                        for (int i = 0; i < leasesPerThread; i++) {
+                            try (Lease<AtomicInteger> lease = promisor.demand()) {
+                                final AtomicInteger inUse = lease.get();
+                                created.add(inUse);
+                                if (inUse.incrementAndGet() != 1) {
+                                    return false;
+                                }
+                                inUse.decrementAndGet();
+                            }
+                        }
+                        return true;
+                    }));
+                }
+                for (Future<Boolean> result : results) {
+                    assertTrue(assertDoesNotThrow(() -> result.get(30, TimeUnit.SECONDS)), "deliverable should be used by one thread at a time.");
+                }
+                assertTrue(created.size() <= threadCount, "deliverables should be reused.");
+            } finally {
+                executor.shutdownNow();
+                promisor.decrementUsage();
+            }
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_WithMaximumBelowCapacity_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            
+            assertThrown(IllegalArgumentException.class, () -> promisors.createPoolPromisor(Object::new, 2, 1));
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_AtMaximum_WaitsForLease() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger created = new AtomicInteger();
+            final Promisor<Lease<Integer>> promisor = promisors.createPoolPromisor(created::incrementAndGet, 1, 2);
+            final ExecutorService executor = Executors.newSingleThreadExecutor();
+            promisor.incrementUsage();
+            try {
+                final Lease<Integer> first = promisor.demand();
+                final Lease<Integer> second = promisor.demand();
+                final Future<Integer> third = executor.submit(() -> {
+                    try (Lease<Integer> lease = promisor.demand()) {
+                        return lease.get();
+                    }
+                });
+                
+                assertThrows(TimeoutException.class, () -> third.get(100, TimeUnit.MILLISECONDS), "demand should wait at the maximum.");
+                final Integer returned = first.get();
+                first.close();
+                assertEquals(returned, assertDoesNotThrow(() -> third.get(10, TimeUnit.SECONDS)), "returned deliverable should be leased.");
+                second.close();
+                assertEquals(2, created.get(), "no more than the maximum should be created.");
+            } finally {
+                executor.shutdownNow();
+                promisor.decrementUsage();
+            }
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_ConcurrentLeases_NeverExceedMaximum() {
+        withContracts(contracts -> {
+            final int threadCount = 8;
+            final int maximum = 3;
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger leased = new AtomicInteger();
+            final AtomicInteger mostLeased = new AtomicInteger();
+            final Promisor<Lease<Object>> promisor = promisors.createPoolPromisor(Object::new, 1, maximum);
+            final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            promisor.incrementUsage();
+            try {
+                final List<Future<?>> results = new ArrayList<>();
+                for (int t = 0; t < threadCount; t++) {
+                    results.add(executor.submit(() -> {
+                        for (int i = 0; i < 1_000; i++) {
+                            try (Lease<Object> lease = promisor.demand()) {
+                                ignore(lease);
+                                mostLeased.accumulateAndGet(leased.incrementAndGet(), Math::max);
+                                leased.decrementAndGet();
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> result : results) {
+                    assertDoesNotThrow(() -> result.get(30, TimeUnit.SECONDS));
+                }
+                assertTrue(mostLeased.get() <= maximum, "leases should never exceed the maximum.");
+            } finally {
+                executor.shutdownNow();
+                promisor.decrementUsage();
+            }
+        });
+    }
+    
+    @Test
+    default void createPoolPromisor_InternalCoverage() {
+        assertInstantiateThrows(PoolPromisorTestsTools.class);
+    }
+    
+    final class PoolPromisorTestsTools {
+        private PoolPromisorTestsTools() {
+            throw new AssertionError("Illegal constructor");
+        }
+        
+        static AutoOpen newCounted(AtomicInteger opened, AtomicInteger closed) {
+            return () -> {
+                opened.incrementAndGet();
+                return closed::incrementAndGet;
+            };
+        }
+    }
+}
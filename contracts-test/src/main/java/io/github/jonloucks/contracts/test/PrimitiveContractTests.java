@@ -0,0 +1,142 @@
+package io.github.jonloucks.contracts.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.jonloucks.contracts.test.Tools.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface PrimitiveContractTests {
+    
+    @Test
+    default void primitiveContract_create_WithNullName_Throws() {
+        assertThrown(IllegalArgumentException.class, () -> IntContract.create((String) null));
+        assertThrown(IllegalArgumentException.class, () -> LongContract.create((String) null));
+        assertThrown(IllegalArgumentException.class, () -> DoubleContract.create((String) null));
+        assertThrown(IllegalArgumentException.class, () -> BooleanContract.create((String) null));
+    }
+    
+    @Test
+    default void primitiveContract_create_Works() {
+        final IntContract contract = IntContract.create(b -> b.name("limit").replaceable(true));
+        
+        assertEquals("limit", contract.getContract().getName());
+        assertTrue(contract.getContract().isReplaceable());
+        assertEquals(contract.getContract().toString(), contract.toString());
+    }
+    
+    @Test
+    default void primitiveContract_claim_WithPrimitivePromisor_Works() {
+        withContracts(contracts -> {
+            final IntContract intContract = IntContract.create("int");
+            final LongContract longContract = LongContract.create("long");
+            final DoubleContract doubleContract = DoubleContract.create("double");
+            final BooleanContract booleanContract = BooleanContract.create("boolean");
+            
+            try (AutoClose closeInt = contracts.bindInt(intContract, () -> 42);
+                 AutoClose closeLong = contracts.bindLong(longContract, () -> 42L);
+                 AutoClose closeDouble = contracts.bindDouble(doubleContract, () -> 0.25);
+                 AutoClose closeBoolean = contracts.bindBoolean(booleanContract, () -> true)) {
+                ignore(closeInt);
+                ignore(closeLong);
+                ignore(closeDouble);
+                ignore(closeBoolean);
+                assertEquals(42, contracts.claimInt(intContract));
+                assertEquals(42L, contracts.claimLong(longContract));
+                assertEquals(0.25, contracts.claimDouble(doubleContract));
+                assertTrue(contracts.claimBoolean(booleanContract));
+                assertEquals(Integer.valueOf(42), contracts.claim(intContract.getContract()), "boxed claim should work.");
+            }
+        });
+    }
+    
+    @Test
+    default void primitiveContract_claim_WithValuePromisors_Works() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final IntContract intContract = IntContract.create("int");
+            final LongContract longContract = LongContract.create("long");
+            final DoubleContract doubleContract = DoubleContract.create("double");
+            final BooleanContract booleanContract = BooleanContract.create("boolean");
+            
+            try (AutoClose closeInt = contracts.bindInt(intContract, promisors.createIntValuePromisor(7));
+                 AutoClose closeLong = contracts.bindLong(longContract, promisors.createLongValuePromisor(7L));
+                 AutoClose closeDouble = contracts.bindDouble(doubleContract, promisors.createDoubleValuePromisor(0.75));
+                 AutoClose closeBoolean = contracts.bindBoolean(booleanContract, promisors.createBooleanValuePromisor(false))) {
+                ignore(closeInt);
+                ignore(closeLong);
+                ignore(closeDouble);
+                ignore(closeBoolean);
+                assertEquals(7, contracts.claimInt(intContract));
+                assertEquals(7L, contracts.claimLong(longContract));
+                assertEquals(0.75, contracts.claimDouble(doubleContract));
+                assertFalse(contracts.claimBoolean(booleanContract));
+                assertEquals(Long.valueOf(7L), contracts.claim(longContract.getContract()), "boxed claim should work.");
+            }
+        });
+    }
+    
+    @Test
+    default void primitiveContract_claim_WithBoxedPromisor_Works() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final IntContract contract = IntContract.create("int");
+            final AtomicInteger created = new AtomicInteger();
+            
+            try (AutoClose closeBinding = contracts.bind(contract.getContract(),
+                promisors.createLifeCyclePromisor(created::incrementAndGet))) {
+                ignore(closeBinding);
+                assertEquals(1, contracts.claimInt(contract));
+                assertEquals(1, contracts.claimInt(contract));
+            }
+        });
+    }
+    
+    @Test
+    default void primitiveContract_claim_WhenDeliveredNull_Throws() {
+        withContracts(contracts -> {
+            final LongContract contract = LongContract.create("long");
+            
+            try (AutoClose closeBinding = contracts.bind(contract.getContract(), () -> null)) {
+                ignore(closeBinding);
+                assertThrown(ContractException.class, () -> contracts.claimLong(contract));
+            }
+        });
+    }
+    
+    @Test
+    default void primitiveContract_claim_WhenNotBound_Throws() {
+        withContracts(contracts -> {
+            assertThrown(ContractException.class, () -> contracts.claimInt(IntContract.create("int")));
+            assertThrown(ContractException.class, () -> contracts.claimLong(LongContract.create("long")));
+            assertThrown(ContractException.class, () -> contracts.claimDouble(DoubleContract.create("double")));
+            assertThrown(ContractException.class, () -> contracts.claimBoolean(BooleanContract.create("boolean")));
+        });
+    }
+    
+    @Test
+    default void primitiveContract_claim_WithNullContract_Throws() {
+        withContracts(contracts -> {
+            assertThrown(IllegalArgumentException.class, () -> contracts.claimInt(null));
+            assertThrown(IllegalArgumentException.class, () -> contracts.claimLong(null));
+            assertThrown(IllegalArgumentException.class, () -> contracts.claimDouble(null));
+            assertThrown(IllegalArgumentException.class, () -> contracts.claimBoolean(null));
+            assertThrown(IllegalArgumentException.class, () -> contracts.bindInt(null, () -> 1));
+        });
+    }
+    
+    @Test
+    default void primitiveContract_claim_FromScope_Works() {
+        withContracts(contracts -> {
+            final DoubleContract contract = DoubleContract.create("sampling rate");
+            
+            try (AutoClose closeBinding = contracts.bindDouble(contract, () -> 0.5);
+                 Contracts.Scope scope = contracts.openScope()) {
+                ignore(closeBinding);
+                assertEquals(0.5, scope.claimDouble(contract));
+            }
+        });
+    }
+}
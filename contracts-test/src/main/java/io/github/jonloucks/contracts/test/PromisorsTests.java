@@ -3,7 +3,12 @@ package io.github.jonloucks.contracts.test;
 import io.github.jonloucks.contracts.api.*;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
 import static io.github.jonloucks.contracts.test.Tools.assertObject;
+import static io.github.jonloucks.contracts.test.Tools.assertThrown;
 import static io.github.jonloucks.contracts.test.Tools.withContracts;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -11,7 +16,12 @@ public interface PromisorsTests extends
     ValuePromisorTests,
     ExtractorPromisorTests,
     SingletonPromisorTests,
-    LifeCyclePromisorTests {
+    LifeCyclePromisorTests,
+    AsyncPromisorTests,
+    PoolPromisorTests,
+    ThreadLocalPromisorTests,
+    RefreshPromisorTests,
+    SoftPromisorTests {
  
     @Test
     default void promisors_getContractDeliverable() {
@@ -22,4 +32,54 @@ public interface PromisorsTests extends
             assertObject(promisors);
         });
     }
+    
+    @Test
+    default void promisors_ExternalImplementation_DefaultsWork() {
+        withContracts(contracts -> {
+            final Promisors minimal = minimalPromisors(contracts.claim(Promisors.CONTRACT));
+            final Promisor<String> source = () -> "abc";
+            
+            final Promisor<String> soft = minimal.createSoftPromisor(source);
+            
+            soft.incrementUsage();
+            try {
+                assertEquals("abc", soft.demand());
+            } finally {
+                soft.decrementUsage();
+            }
+            assertEquals(3, minimal.createMemoizedExtractPromisor(source, String::length).demand());
+            assertThrown(ContractException.class, () -> minimal.createAsyncPromisor(source));
+            assertThrown(ContractException.class, () -> minimal.createPoolPromisor(source, 1));
+            assertThrown(ContractException.class, () -> minimal.createPoolPromisor(source, 1, 2));
+            assertThrown(ContractException.class, () -> minimal.createThreadLocalPromisor(source));
+            assertThrown(ContractException.class, () -> minimal.createRefreshPromisor(source, Duration.ofSeconds(1)));
+            assertThrown(ContractException.class,
+                () -> minimal.createRefreshPromisor(source, Duration.ofSeconds(1), ForkJoinPool.commonPool()));
+        });
+    }
+    
+    static Promisors minimalPromisors(Promisors promisors) {
+        // only the methods every implementation had to provide before the later promisors were added
+        return new Promisors() {
+            @Override
+            public <T> Promisor<T> createValuePromisor(T deliverable) {
+                return promisors.createValuePromisor(deliverable);
+            }
+            
+            @Override
+            public <T> Promisor<T> createSingletonPromisor(Promisor<T> promisor) {
+                return promisors.createSingletonPromisor(promisor);
+            }
+            
+            @Override
+            public <T> Promisor<T> createLifeCyclePromisor(Promisor<T> promisor) {
+                return promisors.createLifeCyclePromisor(promisor);
+            }
+            
+            @Override
+            public <T, R> Promisor<R> createExtractPromisor(Promisor<T> promisor, Function<T, R> extractor) {
+                return promisors.createExtractPromisor(promisor, extractor);
+            }
+        };
+    }
 }
@@ -0,0 +1,125 @@
+package io.github.jonloucks.contracts.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.jonloucks.contracts.test.Tools.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface RefreshPromisorTests {
+    
+    @Test
+    default void createRefreshPromisor_WithNullReferent_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            
+            assertThrown(IllegalArgumentException.class, () -> promisors.createRefreshPromisor(null, Duration.ofMinutes(1)));
+        });
+    }
+    
+    @Test
+    default void createRefreshPromisor_WithInvalidTimeToLive_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            
+            assertThrown(IllegalArgumentException.class, () -> promisors.createRefreshPromisor(() -> "x", null));
+            assertThrown(IllegalArgumentException.class, () -> promisors.createRefreshPromisor(() -> "x", Duration.ZERO));
+            assertThrown(IllegalArgumentException.class, () -> promisors.createRefreshPromisor(() -> "x", Duration.ofMinutes(-1)));
+        });
+    }
+    
+    @Test
+    default void createRefreshPromisor_WithNullExecutor_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            
+            assertThrown(IllegalArgumentException.class, () -> promisors.createRefreshPromisor(() -> "x", Duration.ofMinutes(1), null));
+        });
+    }
+    
+    @Test
+    default void createRefreshPromisor_BeforeExpiry_IsCached() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final List<Runnable> refreshes = new ArrayList<>();
+            final AtomicInteger created = new AtomicInteger();
+            final Promisor<Integer> promisor = promisors.createRefreshPromisor(created::incrementAndGet, Duration.ofHours(1), refreshes::add);
+            
+            assertEquals(1, promisor.demand());
+            assertEquals(1, promisor.demand());
+            assertTrue(refreshes.isEmpty(), "refresh should not start before it is due.");
+            assertEquals(1, created.get());
+        });
+    }
+    
+    @Test
+    default void createRefreshPromisor_WhenDue_ServesCachedAndRefreshesOnce() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final List<Runnable> refreshes = new ArrayList<>();
+            final AtomicInteger created = new AtomicInteger();
+            final Promisor<Integer> promisor = promisors.createRefreshPromisor(created::incrementAndGet, Duration.ofMillis(4), refreshes::add);
+            
+            assertEquals(1, promisor.demand());
+            sleep(Duration.ofMillis(10));
+            
+            assertEquals(1, promisor.demand(), "cached deliverable should be served while refreshing.");
+            assertEquals(1, promisor.demand(), "cached deliverable should be served while refreshing.");
+            assertEquals(1, refreshes.size(), "only one refresh should run at a time.");
+            refreshes.remove(0).run();
+            assertEquals(2, promisor.demand(), "refreshed deliverable should be served.");
+        });
+    }
+    
+    @Test
+    default void createRefreshPromisor_WhenRefreshFails_ServesStale() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final List<Runnable> refreshes = new ArrayList<>();
+            final AtomicInteger attempts = new AtomicInteger();
+            final Promisor<String> promisor = promisors.createRefreshPromisor(() -> {
+                if (attempts.incrementAndGet() == 2) {
+                    throw new IllegalStateException("Refresh failed.");
+                }
+                return "value " + attempts.get();
+            }, Duration.ofMillis(4), refreshes::add);
+            final Thread thread = Thread.currentThread();
+            final Thread.UncaughtExceptionHandler savedHandler = thread.getUncaughtExceptionHandler();
+            final List<Throwable> reported = new ArrayList<>();
+            
+            assertEquals("value 1", promisor.demand());
+            sleep(Duration.ofMillis(10));
+            promisor.demand();
+            thread.setUncaughtExceptionHandler((failedThread, thrown) -> reported.add(thrown));
+            try {
+                refreshes.remove(0).run();
+            } finally {
+                thread.setUncaughtExceptionHandler(savedHandler);
+            }
+            
+            assertEquals(1, reported.size(), "failed refresh should be reported.");
+            assertEquals("value 1", promisor.demand(), "stale deliverable should be served after a failed refresh.");
+            sleep(Duration.ofMillis(10));
+            promisor.demand();
+            refreshes.remove(0).run();
+            assertEquals("value 3", promisor.demand(), "refresh should be tried again.");
+        });
+    }
+    
+    @Test
+    default void createRefreshPromisor_WhenFirstCreationFails_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Promisor<String> promisor = promisors.createRefreshPromisor(() -> {
+                throw new IllegalStateException("Creation failed.");
+            }, Duration.ofMinutes(1));
+            
+            assertThrown(IllegalStateException.class, promisor::demand);
+        });
+    }
+}
@@ -4,15 +4,23 @@ import io.github.jonloucks.contracts.api.*;
 import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import static io.github.jonloucks.contracts.test.RepositoryTests.RepositoryTestsTool.runWithScenario;
 import static io.github.jonloucks.contracts.test.Tools.*;
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -234,6 +242,120 @@ public interface RepositoryTests {
         });
     }
     
+    @Test
+    default void repository_warmUp_CreatesLifeCycleDeliverables() {
+        runWithScenario(( contracts,repository) -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<Integer> first = Contract.create("first");
+            final Contract<Integer> second = Contract.create("second");
+            final AtomicInteger firstCreated = new AtomicInteger();
+            final AtomicInteger secondCreated = new AtomicInteger();
+            
+            repository.keep(first, promisors.createLifeCyclePromisor(firstCreated::incrementAndGet));
+            repository.keep(second, promisors.createLifeCyclePromisor(() -> contracts.claim(first) + secondCreated.incrementAndGet()));
+            
+            assertDoesNotThrow(() -> repository.warmUp().toCompletableFuture().get(10, TimeUnit.SECONDS));
+            
+            assertEquals(1, firstCreated.get(), "first deliverable should be created once.");
+            assertEquals(1, secondCreated.get(), "second deliverable should be created once.");
+            assertEquals(2, contracts.claim(second), "deliverable should be from the warm up.");
+            assertEquals(1, firstCreated.get(), "claim should not create again.");
+        });
+    }
+    
+    @Test
+    default void repository_warmUp_WithExecutor_Works() {
+        runWithScenario(( contracts,repository) -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<String> contract = Contract.create("warm");
+            final List<Runnable> tasks = new ArrayList<>();
+            
+            repository.keep(contract, promisors.createLifeCyclePromisor(() -> "hot"));
+            
+            final CompletableFuture<Void> future = repository.warmUp(tasks::add).toCompletableFuture();
+            assertFalse(future.isDone(), "warm up should wait for the executor.");
+            tasks.forEach(Runnable::run);
+            assertTrue(future.isDone(), "warm up should be done.");
+            assertEquals("hot", contracts.claim(contract));
+        });
+    }
+    
+    @Test
+    default void repository_warmUp_ConcurrentDependency_CreatedFirstAndOnce() {
+        runWithScenario(( contracts,repository) -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<String> first = Contract.create("first");
+            final Contract<String> second = Contract.create("second");
+            final List<String> created = Collections.synchronizedList(new ArrayList<>());
+            final ExecutorService executor = Executors.newFixedThreadPool(2);
+            
+            repository.keep(first, promisors.createLifeCyclePromisor(() -> {
+                sleep(Duration.ofMillis(100));
+                created.add("first");
+                return "first";
+            }));
+            repository.keep(second, promisors.createSingletonPromisor(() -> {
+                final String dependency = contracts.claim(first);
+                created.add("second");
+                return dependency + "+second";
+            }));
+            
+            try {
+                assertDoesNotThrow(() -> repository.warmUp(executor).toCompletableFuture().get(10, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdown();
+            }
+            
+            assertEquals(asList("first", "second"), created, "dependency should be created once and first.");
+            assertEquals("first+second", contracts.claim(second));
+            assertEquals(2, created.size(), "claim should not create again.");
+        });
+    }
+    
+    @Test
+    default void repository_warmUp_IgnoresOtherPromisors() {
+        runWithScenario(( contracts,repository) -> {
+            final Contract<String> contract = Contract.create("not warmed");
+            final AtomicInteger created = new AtomicInteger();
+            
+            repository.keep(contract, () -> "x" + created.incrementAndGet());
+            
+            assertDoesNotThrow(() -> repository.warmUp().toCompletableFuture().get(10, TimeUnit.SECONDS));
+            assertEquals(0, created.get(), "only deliverables kept by the promisor should be created.");
+        });
+    }
+    
+    @Test
+    default void repository_warmUp_WhenCreationFails_CompletesExceptionally() {
+        runWithScenario(( contracts,repository) -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<String> contract = Contract.create("failing");
+            
+            repository.keep(contract, promisors.createLifeCyclePromisor(() -> {
+                throw new IllegalStateException("Creation failed.");
+            }));
+            
+            final ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> repository.warmUp().toCompletableFuture().get(10, TimeUnit.SECONDS));
+            assertTrue(thrown.getCause() instanceof IllegalStateException, "cause should be the creation failure.");
+        });
+    }
+    
+    @Test
+    default void repository_warmUp_WhenNotOpen_Throws() {
+        withContracts(contracts -> {
+            final Repository repository = contracts.claim(Repository.FACTORY).get();
+            
+            assertThrown(ContractException.class, repository::warmUp);
+        });
+    }
+    
+    @Test
+    default void repository_warmUp_WithNullExecutor_Throws() {
+        runWithScenario(( contracts,repository) ->
+            assertThrown(IllegalArgumentException.class, () -> repository.warmUp(null)));
+    }
+    
     @Test
     default void repository_InternalCoverage() {
         assertInstantiateThrows(RepositoryTestsTool.class);
@@ -0,0 +1,193 @@
+package io.github.jonloucks.contracts.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.jonloucks.contracts.test.ScopeTests.ScopeTestsTools.releasePromisor;
+import static io.github.jonloucks.contracts.test.Tools.*;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface ScopeTests {
+    
+    @Test
+    default void scope_openScope_FallsThroughToParent() {
+        withContracts(contracts -> {
+            final Contract<String> contract = Contract.create(String.class);
+            
+            try (AutoClose closeBinding = contracts.bind(contract, () -> "parent");
+                 Contracts.Scope scope = contracts.openScope()) {
+                ignore(closeBinding);
+                
+                assertNotNull(scope, "Scope should not be null.");
+                assertTrue(scope.isBound(contract), "Contract should be bound in the scope.");
+                assertEquals("parent", scope.claim(contract));
+            }
+        });
+    }
+    
+    @Test
+    default void scope_create_WithNull_Throws() {
+        withContracts(contracts -> {
+            assertThrown(IllegalArgumentException.class, () -> Contracts.Scope.create(null, AutoClose.NONE));
+            assertThrown(IllegalArgumentException.class, () -> Contracts.Scope.create(contracts, null));
+        });
+    }
+    
+    @Test
+    default void scope_create_DelegatesAndCloses() {
+        withContracts(contracts -> {
+            final Contract<String> contract = Contract.create(String.class);
+            final List<String> closed = new ArrayList<>();
+            
+            try (Contracts.Scope scope = Contracts.Scope.create(contracts, () -> closed.add("closed"))) {
+                ignore(scope.bind(contract, () -> "delegated"));
+                
+                assertEquals("delegated", contracts.claim(contract));
+                assertTrue(closed.isEmpty(), "Scope should not be closed yet.");
+            }
+            assertEquals(asList("closed"), closed);
+        });
+    }
+    
+    @Test
+    default void scope_bind_IsNotVisibleToParent() {
+        withContracts(contracts -> {
+            final Contract<String> contract = Contract.create(String.class);
+            
+            try (Contracts.Scope scope = contracts.openScope();
+                 AutoClose closeBinding = scope.bind(contract, () -> "scope")) {
+                ignore(closeBinding);
+                
+                assertEquals("scope", scope.claim(contract));
+                assertFalse(contracts.isBound(contract), "Contract should not be bound in the parent.");
+            }
+        });
+    }
+    
+    @Test
+    default void scope_bind_OverridesParent() {
+        withContracts(contracts -> {
+            final Contract<String> contract = Contract.create(String.class);
+            
+            try (AutoClose closeBinding = contracts.bind(contract, () -> "parent");
+                 Contracts.Scope scope = contracts.openScope()) {
+                ignore(closeBinding);
+                ignore(scope.bind(contract, () -> "scope"));
+                
+                assertEquals("scope", scope.claim(contract));
+                assertEquals("parent", contracts.claim(contract));
+            }
+        });
+    }
+    
+    @Test
+    default void scope_close_ReleasesAllBindings() {
+        withContracts(contracts -> {
+            final List<String> released = new ArrayList<>();
+            final Contract<String> first = Contract.create(String.class);
+            final Contract<String> second = Contract.create(String.class);
+            final Contracts.Scope scope = contracts.openScope();
+            
+            ignore(scope.bind(first, releasePromisor("first", released)));
+            ignore(scope.bind(second, releasePromisor("second", released)));
+            
+            implicitClose(scope);
+            
+            assertEquals(asList("second", "first"), released);
+            assertFalse(scope.isBound(first), "First contract should not be bound.");
+            assertFalse(scope.isBound(second), "Second contract should not be bound.");
+        });
+    }
+    
+    @Test
+    default void scope_openScope_Nested_Works() {
+        withContracts(contracts -> {
+            final Contract<String> parentContract = Contract.create(String.class);
+            final Contract<String> scopeContract = Contract.create(String.class);
+            
+            try (AutoClose closeBinding = contracts.bind(parentContract, () -> "parent");
+                 Contracts.Scope scope = contracts.openScope();
+                 Contracts.Scope nested = scope.openScope()) {
+                ignore(closeBinding);
+                ignore(scope.bind(scopeContract, () -> "scope"));
+                
+                assertEquals("parent", nested.claim(parentContract));
+                assertEquals("scope", nested.claim(scopeContract));
+            }
+        });
+    }
+    
+    @Test
+    default void scope_repository_BindsToScope() {
+        withContracts(contracts -> {
+            final Contract<String> contract = Contract.create(String.class);
+            
+            try (Contracts.Scope scope = contracts.openScope()) {
+                final Repository repository = scope.claim(Repository.FACTORY).get();
+                ignore(repository.store(contract, () -> "stored"));
+                
+                try (AutoClose closeRepository = repository.open()) {
+                    ignore(closeRepository);
+                    
+                    assertEquals("stored", scope.claim(contract));
+                    assertFalse(contracts.isBound(contract), "Contract should not be bound in the parent.");
+                }
+            }
+        });
+    }
+    
+    @Test
+    default void scope_openScope_Default_Works() {
+        final Contract<String> contract = Contract.create(String.class);
+        final Decoy<String> decoy = new Decoy<>() {
+            @Override
+            public <T> T claim(Contract<T> claimed) {
+                return claimed.cast("decoy");
+            }
+            
+            @Override
+            public <T> boolean isBound(Contract<T> claimed) {
+                return claimed == contract;
+            }
+        };
+        
+        try (Contracts.Scope scope = decoy.openScope()) {
+            assertEquals("decoy", scope.claim(contract));
+            
+            try (AutoClose closeBinding = scope.bind(contract, () -> "scope")) {
+                ignore(closeBinding);
+                assertEquals("scope", scope.claim(contract));
+            }
+        }
+    }
+    
+    @Test
+    default void scope_InternalCoverage() {
+        assertInstantiateThrows(ScopeTestsTools.class);
+    }
+    
+    final class ScopeTestsTools {
+        private ScopeTestsTools() {
+            throw new AssertionError("Illegal constructor");
+        }
+        
+        static Promisor<String> releasePromisor(String name, List<String> released) {
+            return new Promisor<>() {
+                @Override
+                public String demand() {
+                    return name;
+                }
+                
+                @Override
+                public int decrementUsage() {
+                    released.add(name);
+                    return 0;
+                }
+            };
+        }
+    }
+}
@@ -9,6 +9,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static io.github.jonloucks.contracts.test.Tools.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -60,4 +66,73 @@ public interface SingletonPromisorTests {
             );
         });
     }
+    
+    @Test
+    default void createSingletonPromisor_ConcurrentFirstDemands_WaitForOneCreation() {
+        withContracts(contracts -> {
+            final int threadCount = 32;
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger created = new AtomicInteger();
+            final CountDownLatch start = new CountDownLatch(1);
+            final Promisor<Object> promisor = promisors.createSingletonPromisor(() -> {
+                created.incrementAndGet();
+                sleep(Duration.ofMillis(50));
+                return new Object();
+            });
+            final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            try {
+                final List<Future<Object>> demands = new ArrayList<>();
+                for (int i = 0; i < threadCount; i++) {
+                    demands.add(executor.submit(() -> {
+                        start.await();
+                        return promisor.demand();
+                    }));
+                }
+                start.countDown();
+                final Object first = assertDoesNotThrow(() -> demands.get(0).get(10, TimeUnit.SECONDS));
+                assertNotNull(first, "deliverable should not be null.");
+                for (Future<Object> demand : demands) {
+                    assertSame(first, assertDoesNotThrow(() -> demand.get(10, TimeUnit.SECONDS)), "every caller should get the same deliverable.");
+                }
+                assertEquals(1, created.get(), "deliverable should be created once.");
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+    }
+    
+    @Test
+    default void createSingletonPromisor_WhenCreationFails_RetriesOnNextDemand() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger attempts = new AtomicInteger();
+            final Promisor<String> promisor = promisors.createSingletonPromisor(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("First attempt failed.");
+                }
+                return "second";
+            });
+            
+            assertThrown(IllegalStateException.class, promisor::demand);
+            assertEquals("second", promisor.demand());
+            assertEquals("second", promisor.demand());
+            assertEquals(2, attempts.get(), "successful creation should not be repeated.");
+        });
+    }
+    
+    @Test
+    default void createSingletonPromisor_WithNullDeliverable_IsCreatedOnce() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger created = new AtomicInteger();
+            final Promisor<String> promisor = promisors.createSingletonPromisor(() -> {
+                created.incrementAndGet();
+                return null;
+            });
+            
+            assertNull(promisor.demand());
+            assertNull(promisor.demand());
+            assertEquals(1, created.get(), "null deliverable should be reused.");
+        });
+    }
 }
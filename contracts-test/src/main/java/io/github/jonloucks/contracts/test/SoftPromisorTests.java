@@ -0,0 +1,156 @@
+package io.github.jonloucks.contracts.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.jonloucks.contracts.test.Tools.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface SoftPromisorTests {
+    
+    @Test
+    default void createSoftPromisor_WithNullReferent_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            
+            assertThrown(IllegalArgumentException.class, () -> promisors.createSoftPromisor(null));
+        });
+    }
+    
+    @Test
+    default void createSoftPromisor_demand_WithoutUsage_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Promisor<Object> promisor = promisors.createSoftPromisor(Object::new);
+            
+            assertThrown(IllegalStateException.class, promisor::demand);
+        });
+    }
+    
+    @Test
+    default void createSoftPromisor_WhileHeld_IsReused() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<Object> contract = Contract.create("soft");
+            
+            try (AutoClose closeBinding = contracts.bind(contract, promisors.createSoftPromisor(Object::new))) {
+                ignore(closeBinding);
+                final Object first = contracts.claim(contract);
+                assertSame(first, contracts.claim(contract), "held deliverable should be reused.");
+            }
+        });
+    }
+    
+    @Test
+    default void createSoftPromisor_WithNullDeliverable_IsCreatedOnce() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger created = new AtomicInteger();
+            final Promisor<String> promisor = promisors.createSoftPromisor(() -> {
+                created.incrementAndGet();
+                return null;
+            });
+            promisor.incrementUsage();
+            
+            assertNull(promisor.demand());
+            assertNull(promisor.demand());
+            assertEquals(1, created.get(), "null deliverable should be reused.");
+            promisor.decrementUsage();
+        });
+    }
+    
+    @Test
+    default void createSoftPromisor_WhenUsageEnds_ClosesAndCreatesAgain() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger opened = new AtomicInteger();
+            final AtomicInteger closed = new AtomicInteger();
+            final Promisor<AutoOpen> promisor = promisors.createSoftPromisor(() -> () -> {
+                opened.incrementAndGet();
+                return closed::incrementAndGet;
+            });
+            
+            promisor.incrementUsage();
+            final AutoOpen first = promisor.demand();
+            assertSame(first, promisor.demand());
+            promisor.decrementUsage();
+            assertEquals(1, opened.get());
+            assertEquals(1, closed.get(), "deliverable should be closed when usage ends.");
+            
+            promisor.incrementUsage();
+            assertNotSame(first, promisor.demand(), "deliverable should be created again.");
+            promisor.decrementUsage();
+            assertEquals(2, opened.get());
+            assertEquals(2, closed.get(), "deliverable should be closed once.");
+        });
+    }
+    
+    @Test
+    default void createSoftPromisor_UnderMemoryPressure_IsReclaimedClosedAndCreatedAgain() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<AutoOpen> contract = Contract.create("soft");
+            final AtomicInteger opened = new AtomicInteger();
+            final AtomicInteger closed = new AtomicInteger();
+            
+            try (AutoClose closeBinding = contracts.bind(contract, promisors.createSoftPromisor(() -> () -> {
+                opened.incrementAndGet();
+                return closed::incrementAndGet;
+            }))) {
+                ignore(closeBinding);
+                final WeakReference<AutoOpen> first = new WeakReference<>(contracts.claim(contract));
+                
+                applyMemoryPressure(() -> null == first.get());
+                for (int i = 0; i < 100 && closed.get() == 0; i++) {
+                    sleep(Duration.ofMillis(10));
+                }
+                
+                assertNull(first.get(), "deliverable should be reclaimed.");
+                assertEquals(1, closed.get(), "reclaimed deliverable should be closed by the cleaner.");
+                final AutoOpen second = contracts.claim(contract);
+                assertNotNull(second);
+                assertSame(second, contracts.claim(contract), "deliverable created again should be reused.");
+                assertEquals(2, opened.get(), "deliverable should be created and opened again.");
+            }
+            assertEquals(2, closed.get(), "deliverable created again should be closed when usage ends.");
+        });
+    }
+    
+    @Test
+    default void createSoftPromisor_WhenDeliverableIsItsOwnClose_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<SelfClosing> contract = Contract.create("soft");
+            final AtomicInteger closed = new AtomicInteger();
+            
+            try (AutoClose closeBinding = contracts.bind(contract, promisors.createSoftPromisor(() -> new SelfClosing(closed)))) {
+                ignore(closeBinding);
+                assertThrown(IllegalStateException.class, () -> contracts.claim(contract));
+                assertEquals(1, closed.get(), "opened deliverable should be closed.");
+            }
+        });
+    }
+    
+    final class SelfClosing implements AutoOpen, AutoClose {
+        
+        SelfClosing(AtomicInteger closed) {
+            this.closed = closed;
+        }
+        
+        @Override
+        public AutoClose open() {
+            return this;
+        }
+        
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+        
+        private final AtomicInteger closed;
+    }
+}
@@ -8,6 +8,11 @@ public interface Tests extends
     TestTests,
     ContractTests,
     ContractsTests,
+    ChangesetTests,
+    ScopeTests,
+    DependencyGraphTests,
+    PrimitiveContractTests,
+    HandleTests,
     GlobalContractsTests,
     ExceptionTests,
     RepositoryTests,
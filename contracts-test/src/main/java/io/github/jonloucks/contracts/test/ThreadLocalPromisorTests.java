@@ -0,0 +1,127 @@
+package io.github.jonloucks.contracts.test;
+
+import io.github.jonloucks.contracts.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.jonloucks.contracts.test.Tools.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public interface ThreadLocalPromisorTests {
+    
+    @Test
+    default void createThreadLocalPromisor_WithNullReferent_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            
+            assertThrown(IllegalArgumentException.class, () -> promisors.createThreadLocalPromisor(null));
+        });
+    }
+    
+    @Test
+    default void createThreadLocalPromisor_demand_WithoutUsage_Throws() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Promisor<StringBuilder> promisor = promisors.createThreadLocalPromisor(StringBuilder::new);
+            
+            assertThrown(IllegalStateException.class, promisor::demand);
+        });
+    }
+    
+    @Test
+    default void createThreadLocalPromisor_SameThread_IsReused() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Contract<StringBuilder> contract = Contract.create("per thread");
+            
+            try (AutoClose closeBinding = contracts.bind(contract, promisors.createThreadLocalPromisor(StringBuilder::new))) {
+                ignore(closeBinding);
+                assertSame(contracts.claim(contract), contracts.claim(contract), "thread should reuse its deliverable.");
+            }
+        });
+    }
+    
+    @Test
+    default void createThreadLocalPromisor_EachThread_GetsItsOwn() {
+        withContracts(contracts -> {
+            final int threadCount = 8;
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final Promisor<Object> promisor = promisors.createThreadLocalPromisor(Object::new);
+            final Set<Object> delivered = ConcurrentHashMap.newKeySet();
+            final CyclicBarrier barrier = new CyclicBarrier(threadCount);
+            final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            promisor.incrementUsage();
+            try {
+                final List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < threadCount; i++) {
+                    results.add(executor.submit(() -> {
+                        final Object first = promisor.demand();
+                        delivered.add(first);
+                        barrier.await(10, TimeUnit.SECONDS);
+                        return first == promisor.demand();
+                    }));
+                }
+                for (Future<Boolean> result : results) {
+                    assertTrue(assertDoesNotThrow(() -> result.get(10, TimeUnit.SECONDS)), "thread should reuse its deliverable.");
+                }
+                assertEquals(threadCount, delivered.size(), "each thread should get its own deliverable.");
+            } finally {
+                executor.shutdownNow();
+                promisor.decrementUsage();
+            }
+        });
+    }
+    
+    @Test
+    default void createThreadLocalPromisor_WhenUsageEnds_ClosesEveryThreadsDeliverable() {
+        withContracts(contracts -> {
+            final int threadCount = 4;
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger opened = new AtomicInteger();
+            final AtomicInteger closed = new AtomicInteger();
+            final Promisor<AutoOpen> promisor = promisors.createThreadLocalPromisor(() -> () -> {
+                opened.incrementAndGet();
+                return closed::incrementAndGet;
+            });
+            final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            promisor.incrementUsage();
+            try {
+                final List<Future<AutoOpen>> results = new ArrayList<>();
+                for (int i = 0; i < threadCount; i++) {
+                    results.add(executor.submit(promisor::demand));
+                }
+                for (Future<AutoOpen> result : results) {
+                    assertNotNull(assertDoesNotThrow(() -> result.get(10, TimeUnit.SECONDS)));
+                }
+                promisor.demand();
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(0, closed.get(), "deliverables should stay open while used.");
+            promisor.decrementUsage();
+            assertEquals(opened.get(), closed.get(), "every opened deliverable should be closed.");
+            assertTrue(opened.get() > 1, "more than one thread should have a deliverable.");
+        });
+    }
+    
+    @Test
+    default void createThreadLocalPromisor_WhenUsageResumes_CreatesAgain() {
+        withContracts(contracts -> {
+            final Promisors promisors = contracts.claim(Promisors.CONTRACT);
+            final AtomicInteger created = new AtomicInteger();
+            final Promisor<Integer> promisor = promisors.createThreadLocalPromisor(created::incrementAndGet);
+            
+            promisor.incrementUsage();
+            assertEquals(1, promisor.demand());
+            promisor.decrementUsage();
+            promisor.incrementUsage();
+            assertEquals(2, promisor.demand(), "closed deliverable should not be reused.");
+            promisor.decrementUsage();
+        });
+    }
+}
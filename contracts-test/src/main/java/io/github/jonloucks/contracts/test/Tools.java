@@ -6,10 +6,13 @@ import org.junit.jupiter.api.function.Executable;
 import java.io.Serializable;
 import java.lang.reflect.*;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 import static io.github.jonloucks.contracts.api.Checks.*;
@@ -290,6 +293,27 @@ public final class Tools {
         }
     }
     
+    /**
+     * Allocate until the condition holds or the heap is exhausted.
+     * Softly reachable objects are guaranteed to be cleared before the heap is exhausted.
+     *
+     * @param isRelieved checked after each allocation, for example a WeakReference being cleared
+     */
+    public static void applyMemoryPressure(BooleanSupplier isRelieved) {
+        final BooleanSupplier validIsRelieved = nullCheck(isRelieved, "Condition must be present.");
+        final List<long[]> allocated = new ArrayList<>();
+        
+        try {
+            while (!validIsRelieved.getAsBoolean()) {
+                allocated.add(new long[1 << 17]);
+            }
+        } catch (OutOfMemoryError ignored) {
+        } finally {
+            allocated.clear();
+        }
+        System.gc();
+    }
+    
     /**
      * Create a replaceable Contract for test scenarios
      *
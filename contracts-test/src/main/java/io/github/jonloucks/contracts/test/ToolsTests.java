@@ -247,6 +247,21 @@ public interface ToolsTests {
         assertFails(() -> assertThrownType(type, unexpected, "Problem."));
     }
 
+    @Test
+    default void tools_applyMemoryPressure_WithNullCondition_Throws() {
+        assertThrown(IllegalArgumentException.class,
+            () -> applyMemoryPressure(null), "Condition must be present.");
+    }
+    
+    @Test
+    default void tools_applyMemoryPressure_WhenRelieved_Returns() {
+        final AtomicInteger checks = new AtomicInteger();
+        
+        applyMemoryPressure(() -> checks.incrementAndGet() > 2);
+        
+        assertEquals(3, checks.get());
+    }
+    
     @Test
     default void tools_sleep_WithNullDuration_Throws() {
         assertThrown(IllegalArgumentException.class,